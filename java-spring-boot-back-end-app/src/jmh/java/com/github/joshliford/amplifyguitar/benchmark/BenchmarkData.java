@@ -0,0 +1,97 @@
+package com.github.joshliford.amplifyguitar.benchmark;
+
+import com.github.joshliford.amplifyguitar.model.*;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// catalog and user fixtures sized like the seeded data.sql content
+final class BenchmarkData {
+
+    static final int LESSON_COUNT = 30;
+    static final int CHORD_COUNT = 25;
+    static final int SONG_COUNT = 20;
+
+    private BenchmarkData() {
+
+    }
+
+    static User user(int id) {
+        User user = new User(12, 6, "Lead Player", 5, 120, "Benchmark", "user" + id + "@amplify.dev",
+                "Bench", "Mark", LocalDate.now(), 7, "hash", 2_400);
+        return withId(user, id);
+    }
+
+    // same values as the application.properties defaults
+    static LevelCurve levelCurve() {
+        return new LevelCurve(100, 50, List.of("Beginner", "Novice", "Apprentice", "Strummer", "Rhythm Player",
+                "Lead Player", "Intermediate", "Advanced", "Expert", "Master"));
+    }
+
+    static List<Lesson> lessons() {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 1; i <= LESSON_COUNT; i++) {
+            Difficulty difficulty = Difficulty.values()[(i - 1) / 10 % Difficulty.values().length];
+            lessons.add(withId(new Lesson(text("Lesson content", 1_500), difficulty, text("Lesson description", 150), i,
+                    1 + i / 3, "Lesson " + i, "https://www.youtube.com/embed/lesson" + i, 25 + i * 5), i));
+        }
+        return lessons;
+    }
+
+    static List<UserLesson> completedLessons(User user, List<Lesson> lessons, int completedCount) {
+        List<UserLesson> completed = new ArrayList<>();
+        for (int i = 0; i < completedCount; i++) {
+            Lesson lesson = lessons.get(i);
+            completed.add(withId(new UserLesson(true, LocalDateTime.now().minusDays(i), lesson, user, lesson.getXpReward()), i + 1));
+        }
+        return completed;
+    }
+
+    static List<Reward> rewards() {
+        List<Reward> rewards = new ArrayList<>();
+        int id = 1;
+        for (RewardCondition condition : RewardCondition.values()) {
+            rewards.add(withId(new Reward(LocalDateTime.now(), "Unlock " + condition, "Star", condition, condition.name(), 50), id++));
+        }
+        return rewards;
+    }
+
+    static List<Chord> chords() {
+        List<Chord> chords = new ArrayList<>();
+        for (int i = 1; i <= CHORD_COUNT; i++) {
+            chords.add(withId(new Chord(text("Chord description", 160), text("Chord details", 900), Difficulty.values()[i % 3],
+                    "Index: A string, fret 2 | Middle: D string, fret 2", "https://res.cloudinary.com/chord" + i + ".svg",
+                    text("Chord tips", 600), "Chord " + i), i));
+        }
+        return chords;
+    }
+
+    static List<Song> songs() {
+        List<Song> songs = new ArrayList<>();
+        for (int i = 1; i <= SONG_COUNT; i++) {
+            songs.add(new Song("https://res.cloudinary.com/album" + i + ".jpg", "Artist " + i, "G, C, D, Em",
+                    text("Song details", 800), i, "1971", "G Major Pentatonic", "G", "https://tabs.example/song" + i,
+                    "Song " + i, "https://www.youtube.com/embed/song" + i));
+        }
+        return songs;
+    }
+
+    static <T> T withId(T entity, Integer id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+
+    // repeat a phrase until roughly the given length (stand-in for TEXT columns)
+    private static String text(String phrase, int length) {
+        StringBuilder builder = new StringBuilder(length + phrase.length());
+        while (builder.length() < length) {
+            builder.append(phrase).append(" - guitar practice content. ");
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.github.joshliford.amplifyguitar.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+// builds an in-memory stand-in for a Spring Data repository interface so services can be benchmarked offline
+// only the methods a benchmark actually exercises are mapped (by method name); anything else fails loudly
+final class InMemoryRepository {
+
+    private InMemoryRepository() {
+
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> R of(Class<R> repositoryType, Map<String, Function<Object[], Object>> methods) {
+        return (R) Proxy.newProxyInstance(
+                repositoryType.getClassLoader(),
+                new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "toString":
+                            return "InMemory" + repositoryType.getSimpleName();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            Function<Object[], Object> handler = methods.get(method.getName());
+                            if (handler == null) {
+                                throw new UnsupportedOperationException(repositoryType.getSimpleName() + "." + method.getName() + " is not stubbed");
+                            }
+                            return handler.apply(args);
+                    }
+                });
+    }
+
+}
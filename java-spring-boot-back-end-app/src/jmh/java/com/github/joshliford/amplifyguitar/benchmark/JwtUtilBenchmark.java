@@ -0,0 +1,86 @@
+package com.github.joshliford.amplifyguitar.benchmark;
+
+import com.github.joshliford.amplifyguitar.security.JwtClaims;
+import com.github.joshliford.amplifyguitar.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+Compares the per-request JWT work done by JwtAuthenticationFilter:
+legacyFilterPath - the original path (new parser per call; extractEmail + isTokenValid = 3 verified parses)
+validateToken - single verified parse on the shared parser
+validateTokenCached - single parse with the verified-token digest cache enabled
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtUtil jwtUtil;
+    private JwtUtil cachedJwtUtil;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = newJwtUtil(false);
+        cachedJwtUtil = newJwtUtil(true);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = jwtUtil.generateToken("benchmark@amplify.dev");
+    }
+
+    @Benchmark
+    public boolean legacyFilterPath() {
+        String email = legacyParse(token).getSubject();
+        return legacyParse(token).getSubject().equals(email) && !legacyParse(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public JwtClaims validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtClaims validateTokenCached() {
+        return cachedJwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("benchmark@amplify.dev");
+    }
+
+    // original JwtUtil.parseClaims (builds a new parser on every call)
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    static JwtUtil newJwtUtil(boolean verifiedCacheEnabled) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", SECRET);
+        ReflectionTestUtils.setField(util, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(util, "verifiedCacheEnabled", verifiedCacheEnabled);
+        ReflectionTestUtils.setField(util, "verifiedCacheMaxSize", 1_000L);
+        util.init();
+        return util;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.github.joshliford.amplifyguitar.benchmark;
+
+import com.github.joshliford.amplifyguitar.dto.response.ChordSummaryDTO;
+import com.github.joshliford.amplifyguitar.dto.response.LessonResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.SongDetailDTO;
+import com.github.joshliford.amplifyguitar.model.Chord;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.Song;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+Jackson serialization cost of the largest catalog payloads (TEXT-heavy fields)
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private JsonMapper jsonMapper;
+    private List<LessonResponseDTO> lessons;
+    private List<SongDetailDTO> songs;
+    private List<Chord> chords;
+    private List<ChordSummaryDTO> chordSummaries;
+
+    @Setup
+    public void setup() {
+        jsonMapper = JsonMapper.builder().build();
+        lessons = BenchmarkData.lessons().stream()
+                .map(SerializationBenchmark::toResponse)
+                .toList();
+        songs = BenchmarkData.songs().stream()
+                .map(SerializationBenchmark::toDetail)
+                .toList();
+        chords = BenchmarkData.chords();
+        chordSummaries = chords.stream()
+                .map(chord -> new ChordSummaryDTO(chord.getDifficulty(), chord.getId(), chord.getImageUrl(), chord.getTitle()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] lessonResponses() {
+        return jsonMapper.writeValueAsBytes(lessons);
+    }
+
+    @Benchmark
+    public byte[] songDetails() {
+        return jsonMapper.writeValueAsBytes(songs);
+    }
+
+    @Benchmark
+    public byte[] chords() {
+        return jsonMapper.writeValueAsBytes(chords);
+    }
+
+    // list payload after /api/chords switched to summaries
+    @Benchmark
+    public byte[] chordSummaries() {
+        return jsonMapper.writeValueAsBytes(chordSummaries);
+    }
+
+    private static LessonResponseDTO toResponse(Lesson lesson) {
+        return new LessonResponseDTO(lesson.getId(), false, lesson.getDifficulty(), lesson.getContent(), lesson.getDescription(),
+                lesson.getLessonNumber(), false, lesson.getRequiredLevel(), lesson.getTitle(), lesson.getVideoUrl(), lesson.getXpReward());
+    }
+
+    private static SongDetailDTO toDetail(Song song) {
+        return new SongDetailDTO(song.getAlbumCoverUrl(), song.getArtist(), song.getChordsUsed(), song.getDetails(), song.getId(),
+                song.getReleaseDate(), song.getScalesUsed(), song.getSongKey(), song.getTabUrl(), song.getTitle(), song.getVideoUrl());
+    }
+
+}
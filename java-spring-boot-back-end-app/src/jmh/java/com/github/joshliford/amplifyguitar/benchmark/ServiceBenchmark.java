@@ -0,0 +1,137 @@
+package com.github.joshliford.amplifyguitar.benchmark;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.LessonResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
+import com.github.joshliford.amplifyguitar.model.*;
+import com.github.joshliford.amplifyguitar.progress.CompletedLessons;
+import com.github.joshliford.amplifyguitar.progress.ProgressEventPublisher;
+import com.github.joshliford.amplifyguitar.repository.*;
+import com.github.joshliford.amplifyguitar.service.LessonService;
+import com.github.joshliford.amplifyguitar.service.ProgressService;
+import com.github.joshliford.amplifyguitar.service.RewardService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/*
+Service-layer hot paths with in-memory repositories (no database):
+applyProgress - ProgressService drain write: new totals, level and title computed in Java around the one UPDATE
+checkAndAwardRewards - RewardService full rule evaluation (earned bitset cached after the first call)
+awardCrossedRewards - RewardService incremental evaluation for a lesson completion that crosses no threshold
+getLessons - LessonService.buildLessonResponse over the full lesson list
+*/
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private User user;
+    private ProgressService progressService;
+    private RewardService rewardService;
+    private LessonService lessonService;
+
+    @Setup
+    public void setup() {
+        user = BenchmarkData.user(1);
+        List<Lesson> lessons = BenchmarkData.lessons();
+        List<UserLesson> completedLessons = BenchmarkData.completedLessons(user, lessons, 12);
+        List<Reward> rewards = BenchmarkData.rewards();
+        // user has already earned the first half of the rewards
+        List<UserReward> earnedRewards = rewards.subList(0, rewards.size() / 2).stream()
+                .map(reward -> new UserReward(user, reward, null))
+                .toList();
+
+        UserRepository userRepository = InMemoryRepository.of(UserRepository.class, Map.of(
+                "findById", args -> Optional.of(user),
+                "save", args -> args[0],
+                "updateProgress", args -> 1
+        ));
+        RewardRepository rewardRepository = InMemoryRepository.of(RewardRepository.class, Map.of(
+                "findAll", args -> rewards
+        ));
+        UserRewardRepository userRewardRepository = InMemoryRepository.of(UserRewardRepository.class, Map.of(
+                "findByUserId", args -> earnedRewards,
+                "findRewardIdsByUserId", args -> earnedRewards.stream().map(userReward -> userReward.getReward().getId()).toList(),
+                "save", args -> args[0]
+        ));
+        LessonRepository lessonRepository = InMemoryRepository.of(LessonRepository.class, Map.of(
+                "findAllByOrderByLessonNumberAsc", args -> lessons
+        ));
+        UserLessonRepository userLessonRepository = InMemoryRepository.of(UserLessonRepository.class, Map.of(
+                "findLessonIdsByUserId", args -> completedLessons.stream().map(userLesson -> userLesson.getLesson().getId()).toList()
+        ));
+
+        CatalogService catalogService = new CatalogService(
+                InMemoryRepository.of(ChordRepository.class, Map.of("findAllByOrderByTitleAsc", args -> List.of())),
+                InMemoryRepository.of(ScaleRepository.class, Map.of("findAllByOrderByTitleAsc", args -> List.of())),
+                InMemoryRepository.of(SongRepository.class, Map.of("findAll", args -> List.of())),
+                lessonRepository,
+                InMemoryRepository.of(PracticeGoalRepository.class, Map.of("findAll", args -> List.of())),
+                rewardRepository
+        );
+        catalogService.refresh();
+        // the locked earned-rewards read returns the seeded rewards; reward inserts report every row as inserted
+        JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+                return (List<T>) earnedRewards.stream().map(userReward -> userReward.getReward().getId()).toList();
+            }
+
+            @Override
+            public int update(String sql, Object... args) {
+                return args.length / 3;
+            }
+        };
+        rewardService = new RewardService(catalogService, userRewardRepository, jdbcTemplate, 10_000, 600);
+        progressService = new ProgressService(userRepository, BenchmarkData.levelCurve(), rewardService);
+        ProgressEventRepository progressEventRepository = InMemoryRepository.of(ProgressEventRepository.class, Map.of("save", args -> args[0]));
+        ProgressEventPublisher progressEventPublisher = new ProgressEventPublisher(progressEventRepository, event -> { });
+        lessonService = new LessonService(catalogService, userLessonRepository, rewardService, progressEventPublisher, BenchmarkData.levelCurve(),
+                new CompletedLessons(userLessonRepository, 10_000, 600), userRepository);
+    }
+
+    // small award (no level up) vs large award (multi-level jump)
+    @State(Scope.Benchmark)
+    public static class XpAward {
+        @Param({"50", "5000"})
+        int xpAmount;
+    }
+
+    @Benchmark
+    public User applyProgress(XpAward award) {
+        // reset progress so every invocation does the same amount of level math
+        user.setTotalXp(2_400);
+        user.setCurrentXp(120);
+        user.setCurrentLevel(6);
+        return progressService.applyProgress(user, award.xpAmount, 1);
+    }
+
+    @Benchmark
+    public List<RewardResponseDTO> checkAndAwardRewards() {
+        return rewardService.checkAndAwardRewards(user);
+    }
+
+    @Benchmark
+    public List<RewardResponseDTO> awardCrossedRewards() {
+        return rewardService.awardCrossedRewards(user, List.of(
+                new RewardService.StatChange(RewardStat.LESSONS_COMPLETED, 12, 13),
+                new RewardService.StatChange(RewardStat.TOTAL_XP, 2_400, 2_450)
+        ));
+    }
+
+    @Benchmark
+    public List<LessonResponseDTO> getLessons() {
+        return lessonService.getLessons(user);
+    }
+
+}
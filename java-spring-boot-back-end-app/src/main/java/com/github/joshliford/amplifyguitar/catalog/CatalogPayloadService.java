@@ -0,0 +1,71 @@
+package com.github.joshliford.amplifyguitar.catalog;
+
+import com.github.joshliford.amplifyguitar.service.ChordService;
+import com.github.joshliford.amplifyguitar.service.PracticeGoalService;
+import com.github.joshliford.amplifyguitar.service.ScaleService;
+import com.github.joshliford.amplifyguitar.service.SongService;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+
+/*
+Core method:
+getPayload() - pre-serialized body for a catalog list endpoint (null if the path isn't a catalog list)
+*/
+
+@Service
+public class CatalogPayloadService {
+
+    private final CatalogService catalogService;
+    private final ChordService chordService;
+    private final ScaleService scaleService;
+    private final SongService songService;
+    private final PracticeGoalService practiceGoalService;
+    private final JsonMapper jsonMapper;
+
+    // payloads for a single catalog version; replaced as a whole when the snapshot version changes
+    private volatile Payloads payloads;
+
+    public CatalogPayloadService(CatalogService catalogService, ChordService chordService, ScaleService scaleService, SongService songService, PracticeGoalService practiceGoalService, JsonMapper jsonMapper) {
+        this.catalogService = catalogService;
+        this.chordService = chordService;
+        this.scaleService = scaleService;
+        this.songService = songService;
+        this.practiceGoalService = practiceGoalService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    public CatalogPayload getPayload(String path) {
+        long version = catalogService.current().getVersion();
+        Payloads current = payloads;
+        if (current == null || current.version() != version) {
+            current = build(version);
+        }
+        return current.byPath().get(path);
+    }
+
+    // serialize exactly what the controllers would return so the bytes match the regular endpoints
+    private synchronized Payloads build(long version) {
+        Payloads current = payloads;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        Payloads built = new Payloads(version, Map.of(
+                "/api/chords", serialize(chordService.getAllChords()),
+                "/api/scales", serialize(scaleService.getAllScales()),
+                "/api/songs", serialize(songService.getAllSongs()),
+                "/api/goals", serialize(practiceGoalService.getAllGoals())
+        ));
+        payloads = built;
+        return built;
+    }
+
+    private CatalogPayload serialize(Object value) {
+        return new CatalogPayload(jsonMapper.writeValueAsBytes(value));
+    }
+
+    private record Payloads(long version, Map<String, CatalogPayload> byPath) {
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.github.joshliford.amplifyguitar.catalog;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// serves GET /api/chords, /api/scales, /api/songs and /api/goals from pre-serialized bytes
+// runs after the Spring Security chain (default servlet filter order), so requests are already authenticated
+// a matching If-None-Match returns 304 without touching any service or Jackson code
+@Component
+public class CatalogResponseFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CATALOG_PATHS = Set.of("/api/chords", "/api/scales", "/api/songs", "/api/goals");
+
+    private final CatalogPayloadService catalogPayloadService;
+
+    // private: responses are per authenticated user; no-cache: browsers revalidate with the ETag on every load
+    @Value("${catalog.http.cache-control:private, no-cache}")
+    private String cacheControl;
+
+    public CatalogResponseFilter(CatalogPayloadService catalogPayloadService) {
+        this.catalogPayloadService = catalogPayloadService;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !CATALOG_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        CatalogPayload payload = catalogPayloadService.getPayload(request.getRequestURI());
+        if (payload == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        response.setHeader(HttpHeaders.ETAG, gzip ? payload.getGzipEtag() : payload.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        // client already has this version
+        if (payload.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = gzip ? payload.getGzipBody() : payload.getBody();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // treats "gzip" with any q-value other than 0 as accepted
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.github.joshliford.amplifyguitar.catalog;
+
+import com.github.joshliford.amplifyguitar.repository.*;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+Core methods:
+current() - the active CatalogSnapshot (loaded on first use if startup loading hasn't happened yet)
+refresh() - reload every catalog table into a new snapshot and swap it in atomically
+*/
+
+@Service
+public class CatalogService {
+
+    private final ChordRepository chordRepository;
+    private final ScaleRepository scaleRepository;
+    private final SongRepository songRepository;
+    private final LessonRepository lessonRepository;
+    private final PracticeGoalRepository practiceGoalRepository;
+    private final RewardRepository rewardRepository;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    // readers always see a complete snapshot; refresh swaps the reference in one write
+    private volatile CatalogSnapshot snapshot;
+
+    public CatalogService(ChordRepository chordRepository, ScaleRepository scaleRepository, SongRepository songRepository, LessonRepository lessonRepository, PracticeGoalRepository practiceGoalRepository, RewardRepository rewardRepository) {
+        this.chordRepository = chordRepository;
+        this.scaleRepository = scaleRepository;
+        this.songRepository = songRepository;
+        this.lessonRepository = lessonRepository;
+        this.practiceGoalRepository = practiceGoalRepository;
+        this.rewardRepository = rewardRepository;
+    }
+
+    // load once the app is ready (after data.sql has seeded the catalog)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // call after catalog data changes (i.e. data.sql re-seeded) to pick up the new content
+    public synchronized CatalogSnapshot refresh() {
+        CatalogSnapshot loaded = new CatalogSnapshot(
+                versions.incrementAndGet(),
+                chordRepository.findAllByOrderByTitleAsc(),
+                scaleRepository.findAllByOrderByTitleAsc(),
+                songRepository.findAll(Sort.by(Sort.Direction.ASC, "id")),
+                lessonRepository.findAllByOrderByLessonNumberAsc(),
+                practiceGoalRepository.findAll(Sort.by(Sort.Direction.ASC, "id")),
+                rewardRepository.findAll(Sort.by(Sort.Direction.ASC, "id"))
+        );
+        snapshot = loaded;
+        return loaded;
+    }
+
+}
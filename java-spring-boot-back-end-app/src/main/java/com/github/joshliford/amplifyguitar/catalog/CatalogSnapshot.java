@@ -0,0 +1,175 @@
+package com.github.joshliford.amplifyguitar.catalog;
+
+import com.github.joshliford.amplifyguitar.dto.response.ChordSummaryDTO;
+import com.github.joshliford.amplifyguitar.dto.response.ScaleSummaryDTO;
+import com.github.joshliford.amplifyguitar.model.*;
+import com.github.joshliford.amplifyguitar.progress.RewardRuleIndex;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// immutable, pre-sorted and indexed copy of the catalog tables (chords, scales, songs, lessons, practice goals, rewards)
+// catalog content only changes with data.sql, so reads are served from memory instead of the database
+// a new snapshot is built on every CatalogService.refresh(); an existing snapshot is never modified
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final LocalDateTime loadedAt;
+
+    // ordered by title (matches the previous findAllByOrderByTitleAsc queries)
+    private final List<Chord> chords;
+    private final Map<Integer, Chord> chordsById;
+    // list views only get the summary columns; details/tips stay on the entity for /{id}
+    private final List<ChordSummaryDTO> chordSummaries;
+    private final Map<Difficulty, List<ChordSummaryDTO>> chordSummariesByDifficulty;
+
+    private final List<Scale> scales;
+    private final Map<Integer, Scale> scalesById;
+    // list views only get the summary columns; details/tips stay on the entity for /{id}
+    private final List<ScaleSummaryDTO> scaleSummaries;
+    private final Map<Difficulty, List<ScaleSummaryDTO>> scaleSummariesByDifficulty;
+
+    // ordered by id (insert order from data.sql)
+    private final List<Song> songs;
+    private final Map<Integer, Song> songsById;
+
+    // ordered by lessonNumber
+    private final List<Lesson> lessons;
+    private final Map<Integer, Lesson> lessonsById;
+
+    // ordered by id
+    private final List<PracticeGoal> practiceGoals;
+    private final Map<Integer, PracticeGoal> practiceGoalsById;
+
+    // ordered by id; unlock rules indexed by stat for RewardService
+    private final RewardRuleIndex rewardRules;
+
+    public CatalogSnapshot(long version, List<Chord> chords, List<Scale> scales, List<Song> songs, List<Lesson> lessons, List<PracticeGoal> practiceGoals, List<Reward> rewards) {
+        this.version = version;
+        this.loadedAt = LocalDateTime.now();
+
+        this.chords = sorted(chords, Comparator.comparing(Chord::getTitle));
+        this.chordsById = index(this.chords, Chord::getId);
+        this.chordSummaries = this.chords.stream()
+                .map(chord -> new ChordSummaryDTO(chord.getDifficulty(), chord.getId(), chord.getImageUrl(), chord.getTitle()))
+                .toList();
+        this.chordSummariesByDifficulty = groupByDifficulty(this.chordSummaries, ChordSummaryDTO::getDifficulty);
+
+        this.scales = sorted(scales, Comparator.comparing(Scale::getTitle));
+        this.scalesById = index(this.scales, Scale::getId);
+        this.scaleSummaries = this.scales.stream()
+                .map(scale -> new ScaleSummaryDTO(scale.getDifficulty(), scale.getId(), scale.getImageUrl(), scale.getTitle()))
+                .toList();
+        this.scaleSummariesByDifficulty = groupByDifficulty(this.scaleSummaries, ScaleSummaryDTO::getDifficulty);
+
+        this.songs = sorted(songs, Comparator.comparing(Song::getId));
+        this.songsById = index(this.songs, Song::getId);
+
+        this.lessons = sorted(lessons, Comparator.comparing(Lesson::getLessonNumber));
+        this.lessonsById = index(this.lessons, Lesson::getId);
+
+        this.practiceGoals = sorted(practiceGoals, Comparator.comparing(PracticeGoal::getId));
+        this.practiceGoalsById = index(this.practiceGoals, PracticeGoal::getId);
+
+        this.rewardRules = new RewardRuleIndex(sorted(rewards, Comparator.comparing(Reward::getId)));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+
+    public List<Chord> getChords() {
+        return chords;
+    }
+
+    public List<ChordSummaryDTO> getChordSummaries() {
+        return chordSummaries;
+    }
+
+    public List<ChordSummaryDTO> getChordSummariesByDifficulty(Difficulty difficulty) {
+        return chordSummariesByDifficulty.getOrDefault(difficulty, List.of());
+    }
+
+    public Optional<Chord> findChord(Integer id) {
+        return Optional.ofNullable(chordsById.get(id));
+    }
+
+    public List<Scale> getScales() {
+        return scales;
+    }
+
+    public List<ScaleSummaryDTO> getScaleSummaries() {
+        return scaleSummaries;
+    }
+
+    public List<ScaleSummaryDTO> getScaleSummariesByDifficulty(Difficulty difficulty) {
+        return scaleSummariesByDifficulty.getOrDefault(difficulty, List.of());
+    }
+
+    public Optional<Scale> findScale(Integer id) {
+        return Optional.ofNullable(scalesById.get(id));
+    }
+
+    public List<Song> getSongs() {
+        return songs;
+    }
+
+    public Optional<Song> findSong(Integer id) {
+        return Optional.ofNullable(songsById.get(id));
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    public Optional<Lesson> findLesson(Integer id) {
+        return Optional.ofNullable(lessonsById.get(id));
+    }
+
+    public List<PracticeGoal> getPracticeGoals() {
+        return practiceGoals;
+    }
+
+    public Optional<PracticeGoal> findPracticeGoal(Integer id) {
+        return Optional.ofNullable(practiceGoalsById.get(id));
+    }
+
+    public List<Reward> getRewards() {
+        return rewardRules.getRewards();
+    }
+
+    public RewardRuleIndex getRewardRules() {
+        return rewardRules;
+    }
+
+    // helper methods to build the immutable structures
+
+    private static <T> List<T> sorted(List<T> items, Comparator<T> order) {
+        return items.stream()
+                .sorted(order)
+                .toList();
+    }
+
+    private static <T> Map<Integer, T> index(List<T> items, Function<T, Integer> id) {
+        return Map.copyOf(items.stream().collect(Collectors.toMap(id, Function.identity())));
+    }
+
+    // keeps the sort order of the source list within each difficulty
+    private static <T> Map<Difficulty, List<T>> groupByDifficulty(List<T> items, Function<T, Difficulty> difficulty) {
+        Map<Difficulty, List<T>> grouped = new EnumMap<>(Difficulty.class);
+        for (T item : items) {
+            if (difficulty.apply(item) != null) {
+                grouped.computeIfAbsent(difficulty.apply(item), key -> new ArrayList<>()).add(item);
+            }
+        }
+        grouped.replaceAll((key, list) -> List.copyOf(list));
+        return Collections.unmodifiableMap(grouped);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.github.joshliford.amplifyguitar.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// scheduling drives periodic background work (i.e. the progress event outbox sweep)
+@Configuration
+@EnableScheduling
+public class ExecutorConfig {
+
+    // one virtual thread per task; used to load independent parts of a response concurrently
+    // (i.e. the dashboard) without tying up extra platform threads while waiting on the database
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // runs ProgressEventPipeline's drains; its own bean so tests can swap in an executor that holds drains back
+    // the virtual thread executor owns the threads, so closing it is left to that bean
+    @Bean(destroyMethod = "")
+    public Executor progressEventExecutor(@Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor) {
+        return virtualThreadExecutor;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.github.joshliford.amplifyguitar.config;
+
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// seeds synthetic users into the embedded database when running with the "loadtest" profile
+// all users share one password so the load driver can log in as any of them:
+//   loadtest-user-{n}@amplify.dev / ${loadtest.password}
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final LevelCurve levelCurve;
+
+    @Value("${loadtest.users:200}")
+    private int userCount;
+
+    @Value("${loadtest.password:loadtest-password}")
+    private String password;
+
+    public LoadTestDataSeeder(UserRepository userRepository, PasswordEncoder passwordEncoder, LevelCurve levelCurve) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.levelCurve = levelCurve;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // hash once; BCrypt per user would dominate startup time
+        String passwordHash = passwordEncoder.encode(password);
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= userCount; i++) {
+            String email = "loadtest-user-" + i + "@amplify.dev";
+            if (userRepository.existsByEmail(email)) {
+                continue;
+            }
+            // spread users across XP totals/streaks so locked lessons and reward rules are exercised
+            // level, in-level XP and title come from the level curve, as the progress drain would have written them
+            int totalXp = (1 + i % 10) * (1 + i % 10) * 50;
+            LevelCurve.Level level = levelCurve.levelFor(totalXp);
+            users.add(new User(i % 12, level.level(), level.title(), i % 6, level.currentXp(), "loadtest" + i, email, "Load", "Test",
+                    LocalDate.now().minusDays(i % 3), i % 6, passwordHash, totalXp));
+        }
+        userRepository.saveAll(users);
+    }
+
+}
@@ -1,6 +1,11 @@
 package com.github.joshliford.amplifyguitar.config;
 
+import com.github.joshliford.amplifyguitar.ratelimit.LoginRateLimitFilter;
+import com.github.joshliford.amplifyguitar.security.BCryptCostPasswordEncoder;
 import com.github.joshliford.amplifyguitar.security.JwtAuthenticationFilter;
+import com.github.joshliford.amplifyguitar.security.PasswordHashingPool;
+import com.github.joshliford.amplifyguitar.security.PooledPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -8,7 +13,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -23,9 +27,11 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, LoginRateLimitFilter loginRateLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.loginRateLimitFilter = loginRateLimitFilter;
     }
 
     // main config method
@@ -43,15 +49,20 @@ public class SecurityConfig {
                         .anyRequest().denyAll() // deny everything else
                 )
                 // run my custom auth filter before Spring default filter (form-based login)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // throttle login/register (429) before anything else looks at the request or hashes a password
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class);
         return http.build();
     }
 
     // hash passwords
     // creates 1 instance of BCryptPasswordEncoder that can be injected in User/Auth services
+    // existing hashes are moved to a changed cost on the user's next login (CustomUserDetailsService.updatePassword)
+    // every hash runs on the bounded PasswordHashingPool; when it's saturated callers get a 503 instead of queueing
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength,
+                                           PasswordHashingPool passwordHashingPool) {
+        return new PooledPasswordEncoder(new BCryptCostPasswordEncoder(strength), passwordHashingPool);
     }
 
     // validates credentials and return new Authentication object
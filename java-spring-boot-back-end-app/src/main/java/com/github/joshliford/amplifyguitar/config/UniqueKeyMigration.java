@@ -0,0 +1,85 @@
+package com.github.joshliford.amplifyguitar.config;
+
+import com.github.joshliford.amplifyguitar.model.UserLesson;
+import com.github.joshliford.amplifyguitar.model.UserReward;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+Core method:
+migrate() - on startup, remove duplicates and add every missing unique key, then fail if one is still missing
+*/
+
+// unique keys that guard correctness, not just speed: the insert-first lesson completion check (user_lessons) and the
+// idempotent reward insert (user_reward)
+// ddl-auto=update only tries to add a missing key; on a table that already holds duplicate rows the ALTER fails, is
+// logged, and the app starts without the key, so the guard silently does nothing
+// this removes the duplicates first (keeping the oldest row per key), adds the key, and refuses to start if it is
+// still missing afterwards
+// runs once the EntityManagerFactory has created/updated the tables and before anything serves requests
+@Component
+@DependsOn("entityManagerFactory")
+public class UniqueKeyMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(UniqueKeyMigration.class);
+
+    private static final List<UniqueKey> KEYS = List.of(
+            new UniqueKey("user_lessons", UserLesson.USER_LESSON_KEY, List.of("user_id", "lesson_id")),
+            new UniqueKey("user_reward", UserReward.USER_REWARD_KEY, List.of("user_id", "reward_id"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UniqueKeyMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        for (UniqueKey key : KEYS) {
+            if (exists(key)) {
+                continue;
+            }
+            int removed = removeDuplicates(key);
+            jdbcTemplate.execute("ALTER TABLE " + key.table() + " ADD CONSTRAINT " + key.name() + " UNIQUE (" + String.join(", ", key.columns()) + ")");
+            if (!exists(key)) {
+                throw new IllegalStateException("Unique key " + key.name() + " is missing on " + key.table());
+            }
+            // removed completions were counted into lessons_completed/XP; progress.recompute.on-startup re-derives them
+            log.warn("Added unique key {} on {} after removing {} duplicate rows", key.name(), key.table(), removed);
+        }
+    }
+
+    // deletes every row that has an older row with the same key columns
+    // the DISTINCT keeps MySQL from merging the derived table, which it needs to delete from a table it reads
+    private int removeDuplicates(UniqueKey key) {
+        String sameKey = key.columns().stream()
+                .map(column -> "keep." + column + " = dup." + column)
+                .collect(Collectors.joining(" AND "));
+        return jdbcTemplate.update("DELETE FROM " + key.table() + " WHERE id IN (SELECT id FROM ("
+                + "SELECT DISTINCT dup.id FROM " + key.table() + " dup JOIN " + key.table() + " keep ON " + sameKey + " AND keep.id < dup.id"
+                + ") duplicates)");
+    }
+
+    private boolean exists(UniqueKey key) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.table_constraints
+                WHERE constraint_type = 'UNIQUE'
+                AND LOWER(table_schema) = LOWER(SCHEMA())
+                AND LOWER(table_name) = ?
+                AND LOWER(constraint_name) = ?
+                """, Integer.class, key.table(), key.name());
+        return count != null && count > 0;
+    }
+
+    private record UniqueKey(String table, String name, List<String> columns) {
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.joshliford.amplifyguitar.controller;
 
+import com.github.joshliford.amplifyguitar.dto.response.ChordSummaryDTO;
 import com.github.joshliford.amplifyguitar.model.Chord;
 import com.github.joshliford.amplifyguitar.model.Difficulty;
 import com.github.joshliford.amplifyguitar.service.ChordService;
@@ -14,7 +15,7 @@ import java.util.List;
 
 /*
 4 endpoints:
-GET /api/chords (get all chords)
+GET /api/chords (get all chord summaries for list view)
 GET /api/chords/difficulty/{difficulty} (get all filtered by difficulty)
 GET /api/chords/{id} (get chord by ID for jam room detail view)
 GET /api/chords/count (get total count of chords for dashboard)
@@ -31,14 +32,14 @@ public class ChordController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<Chord>> getAllChords() {
-        List<Chord> response = chordService.getAllChords();
+    public ResponseEntity<List<ChordSummaryDTO>> getAllChords() {
+        List<ChordSummaryDTO> response = chordService.getAllChords();
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @GetMapping("/difficulty/{difficulty}")
-    public ResponseEntity<List<Chord>> getChordsByDifficulty(@PathVariable Difficulty difficulty) {
-        List<Chord> response = chordService.getAllChordsByDifficulty(difficulty);
+    public ResponseEntity<List<ChordSummaryDTO>> getChordsByDifficulty(@PathVariable Difficulty difficulty) {
+        List<ChordSummaryDTO> response = chordService.getAllChordsByDifficulty(difficulty);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -0,0 +1,34 @@
+package com.github.joshliford.amplifyguitar.controller;
+
+import com.github.joshliford.amplifyguitar.dto.response.DashboardResponseDTO;
+import com.github.joshliford.amplifyguitar.security.AuthenticatedUser;
+import com.github.joshliford.amplifyguitar.service.DashboardService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/*
+1 endpoint:
+GET /api/dashboard - user, all and earned rewards, chord/scale counts and songs in one response
+*/
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    public DashboardController(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("")
+    public ResponseEntity<DashboardResponseDTO> getDashboard(@AuthenticationPrincipal AuthenticatedUser user) {
+        DashboardResponseDTO response = dashboardService.getDashboard(user.getId());
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
+}
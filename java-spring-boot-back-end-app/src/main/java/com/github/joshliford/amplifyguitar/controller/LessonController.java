@@ -3,12 +3,12 @@ package com.github.joshliford.amplifyguitar.controller;
 import com.github.joshliford.amplifyguitar.dto.response.CompleteLessonResponseDTO;
 import com.github.joshliford.amplifyguitar.dto.response.LessonResponseDTO;
 import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.security.AuthenticatedUser;
 import com.github.joshliford.amplifyguitar.service.LessonService;
 import com.github.joshliford.amplifyguitar.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -33,25 +33,22 @@ public class LessonController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<LessonResponseDTO>> getLessons(@AuthenticationPrincipal UserDetails user) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<List<LessonResponseDTO>> getLessons(@AuthenticationPrincipal AuthenticatedUser user) {
+        User currentUser = userService.getUserById(user.getId());
         List<LessonResponseDTO> response = lessonService.getLessons(currentUser);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<LessonResponseDTO> getLessonById(@AuthenticationPrincipal UserDetails user, @PathVariable Integer id) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<LessonResponseDTO> getLessonById(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable Integer id) {
+        User currentUser = userService.getUserById(user.getId());
         LessonResponseDTO response = lessonService.getLessonById(id, currentUser);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @PostMapping("/{lessonId}/complete")
-    public ResponseEntity<CompleteLessonResponseDTO> completeLesson(@AuthenticationPrincipal UserDetails user, @PathVariable Integer lessonId) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<CompleteLessonResponseDTO> completeLesson(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable Integer lessonId) {
+        User currentUser = userService.getUserById(user.getId());
         CompleteLessonResponseDTO response = lessonService.completeLesson(currentUser, lessonId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -2,22 +2,28 @@ package com.github.joshliford.amplifyguitar.controller;
 
 import com.github.joshliford.amplifyguitar.dto.request.EndSessionRequestDTO;
 import com.github.joshliford.amplifyguitar.dto.request.StartSessionRequestDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionPageDTO;
 import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeStatsDTO;
 import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.security.AuthenticatedUser;
 import com.github.joshliford.amplifyguitar.service.PracticeSessionService;
 import com.github.joshliford.amplifyguitar.service.UserService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.LocalDate;
 
 /*
-4 endpoints:
+5 endpoints:
 GET /api/practice-sessions
+- Note: paginated newest first; optional ?cursor=, ?size= (default 20, max 100), ?from=/?to= (yyyy-MM-dd, inclusive), ?goalId=
 GET /api/practice-sessions/total-time
+GET /api/practice-sessions/stats
+- Note: totals, per-goal and per-week/month practice time, all aggregated in the database
 POST /api/practice-sessions
 PATCH /api/practice-sessions/{sessionId}
 - Note: PATCH not PUT — partially updates an existing session with endedAt, duration, xpEarned, and completed status
@@ -35,38 +41,46 @@ public class PracticeSessionController {
         this.userService = userService;
     }
 
-    // @AuthenticationPrincipal injects the currently authenticated users UserDetails (set by JwtAuthenticationFilter)
+    // @AuthenticationPrincipal injects the currently authenticated user (set by JwtAuthenticationFilter)
     // directly into the method
-    // user.getUsername() returns their email, which is then used to look up the full User entity
+    // user.getId() is used to get a User reference; these endpoints only need the ID so no extra SELECT is issued
     @GetMapping("")
-    public ResponseEntity<List<PracticeSessionResponseDTO>> getPracticeSessions(@AuthenticationPrincipal UserDetails user) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
-        List<PracticeSessionResponseDTO> response = practiceSessionService.getPracticeSessions(currentUser);
+    public ResponseEntity<PracticeSessionPageDTO> getPracticeSessions(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                      @RequestParam(required = false) Integer goalId) {
+        User currentUser = userService.getReference(user.getId());
+        PracticeSessionPageDTO response = practiceSessionService.getPracticeSessions(currentUser, cursor, size, from, to, goalId);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @GetMapping("/total-time")
-    public ResponseEntity<Integer> getTotalPracticeTime(@AuthenticationPrincipal UserDetails user) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<Integer> getTotalPracticeTime(@AuthenticationPrincipal AuthenticatedUser user) {
+        User currentUser = userService.getReference(user.getId());
         Integer response = practiceSessionService.getTotalPracticeTime(currentUser);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @GetMapping("/stats")
+    public ResponseEntity<PracticeStatsDTO> getPracticeStats(@AuthenticationPrincipal AuthenticatedUser user) {
+        User currentUser = userService.getReference(user.getId());
+        PracticeStatsDTO response = practiceSessionService.getPracticeStats(currentUser);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @PostMapping("")
-    public ResponseEntity<PracticeSessionResponseDTO> createPracticeSession(@AuthenticationPrincipal UserDetails user, @RequestBody StartSessionRequestDTO startSessionRequestDTO) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<PracticeSessionResponseDTO> createPracticeSession(@AuthenticationPrincipal AuthenticatedUser user, @RequestBody StartSessionRequestDTO startSessionRequestDTO) {
+        User currentUser = userService.getReference(user.getId());
         Integer goalId = startSessionRequestDTO.getGoalId();
         PracticeSessionResponseDTO response = practiceSessionService.startPracticeSession(currentUser, goalId);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @PatchMapping("/{sessionId}")
-    public ResponseEntity<PracticeSessionResponseDTO> endPracticeSession(@AuthenticationPrincipal UserDetails user, @PathVariable Integer sessionId, @RequestBody EndSessionRequestDTO endSessionRequestDTO) {
-        String email = user.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<PracticeSessionResponseDTO> endPracticeSession(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable Integer sessionId, @RequestBody EndSessionRequestDTO endSessionRequestDTO) {
+        User currentUser = userService.getReference(user.getId());
         PracticeSessionResponseDTO response = practiceSessionService.endPracticeSession(currentUser, sessionId, endSessionRequestDTO.getNotes(), endSessionRequestDTO.getDurationInSeconds());
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -2,12 +2,12 @@ package com.github.joshliford.amplifyguitar.controller;
 
 import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
 import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.security.AuthenticatedUser;
 import com.github.joshliford.amplifyguitar.service.RewardService;
 import com.github.joshliford.amplifyguitar.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -35,9 +35,8 @@ public class RewardController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<RewardResponseDTO>> getEarnedRewards(@AuthenticationPrincipal UserDetails userDetails) {
-        String email = userDetails.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<List<RewardResponseDTO>> getEarnedRewards(@AuthenticationPrincipal AuthenticatedUser user) {
+        User currentUser = userService.getReference(user.getId());
         List<RewardResponseDTO> response = rewardService.getEarnedRewards(currentUser);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -49,9 +48,8 @@ public class RewardController {
     }
 
     @PostMapping("/check")
-    public ResponseEntity<List<RewardResponseDTO>> checkAndAwardRewards(@AuthenticationPrincipal UserDetails userDetails) {
-        String email = userDetails.getUsername();
-        User currentUser = userService.findByEmail(email);
+    public ResponseEntity<List<RewardResponseDTO>> checkAndAwardRewards(@AuthenticationPrincipal AuthenticatedUser user) {
+        User currentUser = userService.getUserById(user.getId());
         List<RewardResponseDTO> response = rewardService.checkAndAwardRewards(currentUser);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
@@ -1,5 +1,6 @@
 package com.github.joshliford.amplifyguitar.controller;
 
+import com.github.joshliford.amplifyguitar.dto.response.ScaleSummaryDTO;
 import com.github.joshliford.amplifyguitar.model.Chord;
 import com.github.joshliford.amplifyguitar.model.Difficulty;
 import com.github.joshliford.amplifyguitar.model.Scale;
@@ -15,7 +16,7 @@ import java.util.List;
 
 /*
 4 endpoints:
-GET /api/scales (get all scales)
+GET /api/scales (get all scale summaries for list view)
 GET /api/scales/difficulty/{difficulty} (get all filtered by difficulty)
 GET /api/scales/{id} (get scale by ID for jam room detail view)
 GET /api/scales/count (get total count of scales for dashboard)
@@ -32,14 +33,14 @@ public class ScaleController {
     }
 
     @GetMapping("")
-    public ResponseEntity<List<Scale>> getAllScales() {
-        List<Scale> response = scaleService.getAllScales();
+    public ResponseEntity<List<ScaleSummaryDTO>> getAllScales() {
+        List<ScaleSummaryDTO> response = scaleService.getAllScales();
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
     @GetMapping("/difficulty/{difficulty}")
-    public ResponseEntity<List<Scale>> getScalesByDifficulty(@PathVariable Difficulty difficulty) {
-        List<Scale> response = scaleService.getAllScalesByDifficulty(difficulty);
+    public ResponseEntity<List<ScaleSummaryDTO>> getScalesByDifficulty(@PathVariable Difficulty difficulty) {
+        List<ScaleSummaryDTO> response = scaleService.getAllScalesByDifficulty(difficulty);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
@@ -0,0 +1,78 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+import java.util.List;
+
+// everything the dashboard needs on page load in a single response
+public class DashboardResponseDTO {
+
+    private UserResponseDTO user;
+
+    // rewards the user has earned
+    private List<RewardResponseDTO> earnedRewards;
+
+    // every reward (earned or not) for the trophy case
+    private List<RewardResponseDTO> allRewards;
+
+    private Long totalChords;
+
+    private Long totalScales;
+
+    private List<SongSummaryDTO> songs;
+
+    public DashboardResponseDTO(List<RewardResponseDTO> allRewards, List<RewardResponseDTO> earnedRewards, List<SongSummaryDTO> songs, Long totalChords, Long totalScales, UserResponseDTO user) {
+        this.allRewards = allRewards;
+        this.earnedRewards = earnedRewards;
+        this.songs = songs;
+        this.totalChords = totalChords;
+        this.totalScales = totalScales;
+        this.user = user;
+    }
+
+    public List<RewardResponseDTO> getAllRewards() {
+        return allRewards;
+    }
+
+    public void setAllRewards(List<RewardResponseDTO> allRewards) {
+        this.allRewards = allRewards;
+    }
+
+    public List<RewardResponseDTO> getEarnedRewards() {
+        return earnedRewards;
+    }
+
+    public void setEarnedRewards(List<RewardResponseDTO> earnedRewards) {
+        this.earnedRewards = earnedRewards;
+    }
+
+    public List<SongSummaryDTO> getSongs() {
+        return songs;
+    }
+
+    public void setSongs(List<SongSummaryDTO> songs) {
+        this.songs = songs;
+    }
+
+    public Long getTotalChords() {
+        return totalChords;
+    }
+
+    public void setTotalChords(Long totalChords) {
+        this.totalChords = totalChords;
+    }
+
+    public Long getTotalScales() {
+        return totalScales;
+    }
+
+    public void setTotalScales(Long totalScales) {
+        this.totalScales = totalScales;
+    }
+
+    public UserResponseDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserResponseDTO user) {
+        this.user = user;
+    }
+}
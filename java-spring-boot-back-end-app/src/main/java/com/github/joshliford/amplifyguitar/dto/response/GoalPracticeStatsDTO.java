@@ -0,0 +1,53 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+// practice totals for one goal (goalId/goalTitle are null for free play sessions without a goal)
+public class GoalPracticeStatsDTO {
+
+    private Integer goalId;
+
+    private String goalTitle;
+
+    private Long sessionCount;
+
+    private Long totalPracticeTime;
+
+    public GoalPracticeStatsDTO(Integer goalId, String goalTitle, Long sessionCount, Long totalPracticeTime) {
+        this.goalId = goalId;
+        this.goalTitle = goalTitle;
+        this.sessionCount = sessionCount;
+        this.totalPracticeTime = totalPracticeTime;
+    }
+
+    public Integer getGoalId() {
+        return goalId;
+    }
+
+    public void setGoalId(Integer goalId) {
+        this.goalId = goalId;
+    }
+
+    public String getGoalTitle() {
+        return goalTitle;
+    }
+
+    public void setGoalTitle(String goalTitle) {
+        this.goalTitle = goalTitle;
+    }
+
+    public Long getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(Long sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public Long getTotalPracticeTime() {
+        return totalPracticeTime;
+    }
+
+    public void setTotalPracticeTime(Long totalPracticeTime) {
+        this.totalPracticeTime = totalPracticeTime;
+    }
+
+}
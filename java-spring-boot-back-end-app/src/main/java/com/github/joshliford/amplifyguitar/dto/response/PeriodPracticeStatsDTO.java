@@ -0,0 +1,42 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+// practice totals for one ISO week (i.e. 2026-W07) or calendar month (i.e. 2026-02)
+public class PeriodPracticeStatsDTO {
+
+    private String period;
+
+    private Long sessionCount;
+
+    private Long totalPracticeTime;
+
+    public PeriodPracticeStatsDTO(String period, Long sessionCount, Long totalPracticeTime) {
+        this.period = period;
+        this.sessionCount = sessionCount;
+        this.totalPracticeTime = totalPracticeTime;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(String period) {
+        this.period = period;
+    }
+
+    public Long getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(Long sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public Long getTotalPracticeTime() {
+        return totalPracticeTime;
+    }
+
+    public void setTotalPracticeTime(Long totalPracticeTime) {
+        this.totalPracticeTime = totalPracticeTime;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+import java.util.List;
+
+// one page of a user's practice session history (newest first)
+// pass nextCursor back as ?cursor= to get the following page; null means there are no more sessions
+public class PracticeSessionPageDTO {
+
+    private List<PracticeSessionResponseDTO> sessions;
+
+    private String nextCursor;
+
+    public PracticeSessionPageDTO(String nextCursor, List<PracticeSessionResponseDTO> sessions) {
+        this.nextCursor = nextCursor;
+        this.sessions = sessions;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public List<PracticeSessionResponseDTO> getSessions() {
+        return sessions;
+    }
+
+    public void setSessions(List<PracticeSessionResponseDTO> sessions) {
+        this.sessions = sessions;
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+import java.util.List;
+
+// practice statistics for a user, aggregated in the database (completed sessions only)
+// durations are in seconds to match durationInSeconds on sessions
+public class PracticeStatsDTO {
+
+    private Long totalPracticeTime;
+
+    private Long sessionCount;
+
+    private Long averageSessionDuration;
+
+    private List<GoalPracticeStatsDTO> goals;
+
+    private List<PeriodPracticeStatsDTO> weekly;
+
+    private List<PeriodPracticeStatsDTO> monthly;
+
+    public PracticeStatsDTO(Long averageSessionDuration, List<GoalPracticeStatsDTO> goals, List<PeriodPracticeStatsDTO> monthly, Long sessionCount, Long totalPracticeTime, List<PeriodPracticeStatsDTO> weekly) {
+        this.averageSessionDuration = averageSessionDuration;
+        this.goals = goals;
+        this.monthly = monthly;
+        this.sessionCount = sessionCount;
+        this.totalPracticeTime = totalPracticeTime;
+        this.weekly = weekly;
+    }
+
+    public Long getAverageSessionDuration() {
+        return averageSessionDuration;
+    }
+
+    public void setAverageSessionDuration(Long averageSessionDuration) {
+        this.averageSessionDuration = averageSessionDuration;
+    }
+
+    public List<GoalPracticeStatsDTO> getGoals() {
+        return goals;
+    }
+
+    public void setGoals(List<GoalPracticeStatsDTO> goals) {
+        this.goals = goals;
+    }
+
+    public List<PeriodPracticeStatsDTO> getMonthly() {
+        return monthly;
+    }
+
+    public void setMonthly(List<PeriodPracticeStatsDTO> monthly) {
+        this.monthly = monthly;
+    }
+
+    public Long getSessionCount() {
+        return sessionCount;
+    }
+
+    public void setSessionCount(Long sessionCount) {
+        this.sessionCount = sessionCount;
+    }
+
+    public Long getTotalPracticeTime() {
+        return totalPracticeTime;
+    }
+
+    public void setTotalPracticeTime(Long totalPracticeTime) {
+        this.totalPracticeTime = totalPracticeTime;
+    }
+
+    public List<PeriodPracticeStatsDTO> getWeekly() {
+        return weekly;
+    }
+
+    public void setWeekly(List<PeriodPracticeStatsDTO> weekly) {
+        this.weekly = weekly;
+    }
+
+}
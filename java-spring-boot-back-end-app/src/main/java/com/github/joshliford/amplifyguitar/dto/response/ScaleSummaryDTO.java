@@ -0,0 +1,55 @@
+package com.github.joshliford.amplifyguitar.dto.response;
+
+import com.github.joshliford.amplifyguitar.model.Difficulty;
+
+// returns scale summary for list view (full details/tips only come from /api/scales/{id})
+public class ScaleSummaryDTO {
+
+    private Integer id;
+
+    private String title;
+
+    private Difficulty difficulty;
+
+    private String imageUrl;
+
+    public ScaleSummaryDTO(Difficulty difficulty, Integer id, String imageUrl, String title) {
+        this.difficulty = difficulty;
+        this.id = id;
+        this.imageUrl = imageUrl;
+        this.title = title;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+}
@@ -20,11 +20,14 @@ public class UserResponseDTO {
     // total lifetime xp
     private Integer totalXp;
 
+    // xp needed to go from the current level to the next one
+    private Integer xpForNextLevel;
+
     private Integer lessonsCompleted;
 
     private LocalDate lastLoginDate;
 
-    public UserResponseDTO(Integer currentLevel, Integer currentStreak, String currentTitle, Integer currentXp, String displayName, LocalDate lastLoginDate, Integer lessonsCompleted, Integer longestStreak, Integer totalXp) {
+    public UserResponseDTO(Integer currentLevel, Integer currentStreak, String currentTitle, Integer currentXp, String displayName, LocalDate lastLoginDate, Integer lessonsCompleted, Integer longestStreak, Integer totalXp, Integer xpForNextLevel) {
         this.currentLevel = currentLevel;
         this.currentStreak = currentStreak;
         this.currentTitle = currentTitle;
@@ -34,6 +37,7 @@ public class UserResponseDTO {
         this.lessonsCompleted = lessonsCompleted;
         this.longestStreak = longestStreak;
         this.totalXp = totalXp;
+        this.xpForNextLevel = xpForNextLevel;
     }
 
     public Integer getCurrentLevel() {
@@ -107,4 +111,13 @@ public class UserResponseDTO {
     public void setTotalXp(Integer totalXp) {
         this.totalXp = totalXp;
     }
+
+    public Integer getXpForNextLevel() {
+        return xpForNextLevel;
+    }
+
+    public void setXpForNextLevel(Integer xpForNextLevel) {
+        this.xpForNextLevel = xpForNextLevel;
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.github.joshliford.amplifyguitar.exception;
+
+// a bounded resource (i.e. the password hashing pool) is saturated; mapped to 503 with Retry-After
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.github.joshliford.amplifyguitar.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// resume point for a keyset-chunked batch job: every row with an id <= lastId has been processed
+// the row exists only while a run is unfinished; a completed run deletes it
+@Entity
+@Table(name = "batch_job_checkpoints")
+public class BatchJobCheckpoint {
+
+    @Id
+    private String jobName;
+
+    @Column(nullable = false)
+    private Integer lastId;
+
+    @Column(nullable = false)
+    private Long processed = 0L;
+
+    private LocalDateTime updatedAt;
+
+    public BatchJobCheckpoint() {
+
+    }
+
+    public BatchJobCheckpoint(String jobName, Integer lastId, Long processed, LocalDateTime updatedAt) {
+        this.jobName = jobName;
+        this.lastId = lastId;
+        this.processed = processed;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public void setJobName(String jobName) {
+        this.jobName = jobName;
+    }
+
+    public Integer getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(Integer lastId) {
+        this.lastId = lastId;
+    }
+
+    public Long getProcessed() {
+        return processed;
+    }
+
+    public void setProcessed(Long processed) {
+        this.processed = processed;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
@@ -6,7 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "practice_sessions")
+// composite index backs the keyset-paginated session history (WHERE user_id = ? ORDER BY started_at, id)
+@Table(name = "practice_sessions", indexes = @Index(name = "idx_practice_sessions_user_started_id", columnList = "user_id, started_at, id"))
 public class PracticeSession {
 
     @Id
@@ -14,13 +15,13 @@ public class PracticeSession {
     private Integer id;
 
     // Many practice sessions can belong to one user; foreign key stored in user_id column
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     @NotNull
     private User user;
 
     // Many practice sessions can target the same goal; foreign key stored in goal_id column
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "goal_id")
     private PracticeGoal goal;
 
@@ -0,0 +1,80 @@
+package com.github.joshliford.amplifyguitar.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// transactional outbox for progress updates: written in the same transaction as the completion it describes
+// (UserLesson / PracticeSession) and deleted by ProgressEventPipeline once its XP, lesson count and rewards are applied
+// so a row only exists while its effects are still pending, and survives a crash between commit and processing
+@Entity
+@Table(name = "progress_events", indexes = @Index(name = "idx_progress_events_user_id", columnList = "user_id, id"))
+public class ProgressEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // plain column (no foreign key) so pending events never block deleting a user; orphaned rows are discarded
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ProgressEventType eventType;
+
+    // lesson or practice session ID, depending on eventType
+    private Integer referenceId;
+
+    @Column(nullable = false)
+    private Integer xp = 0;
+
+    // lessons completed by this event (0 or 1)
+    @Column(nullable = false)
+    private Integer lessonsCompleted = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public ProgressEvent() {
+
+    }
+
+    public ProgressEvent(LocalDateTime createdAt, ProgressEventType eventType, Integer lessonsCompleted, Integer referenceId, Integer userId, Integer xp) {
+        this.createdAt = createdAt;
+        this.eventType = eventType;
+        this.lessonsCompleted = lessonsCompleted;
+        this.referenceId = referenceId;
+        this.userId = userId;
+        this.xp = xp;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public ProgressEventType getEventType() {
+        return eventType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getLessonsCompleted() {
+        return lessonsCompleted;
+    }
+
+    public Integer getReferenceId() {
+        return referenceId;
+    }
+
+    public Integer getUserId() {
+        return userId;
+    }
+
+    public Integer getXp() {
+        return xp;
+    }
+
+}
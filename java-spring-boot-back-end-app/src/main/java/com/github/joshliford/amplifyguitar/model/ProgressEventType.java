@@ -0,0 +1,6 @@
+package com.github.joshliford.amplifyguitar.model;
+
+public enum ProgressEventType {
+    LESSON_COMPLETED,
+    PRACTICE_SESSION_ENDED
+}
@@ -25,6 +25,13 @@ public class Reward {
     @Enumerated(EnumType.STRING)
     private RewardCondition rewardCondition;
 
+    // unlock rule: earned once the user's rewardStat reaches threshold (i.e. LEVEL >= 5)
+    // new rewards are added as rows with these two columns; no code change needed
+    @Enumerated(EnumType.STRING)
+    private RewardStat rewardStat;
+
+    private Integer threshold;
+
     private Integer xpBonus;
 
     @CreationTimestamp
@@ -79,6 +86,22 @@ public class Reward {
         this.rewardCondition = rewardCondition;
     }
 
+    public RewardStat getRewardStat() {
+        return rewardStat;
+    }
+
+    public void setRewardStat(RewardStat rewardStat) {
+        this.rewardStat = rewardStat;
+    }
+
+    public Integer getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Integer threshold) {
+        this.threshold = threshold;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -94,4 +117,5 @@ public class Reward {
     public void setXpBonus(Integer xpBonus) {
         this.xpBonus = xpBonus;
     }
+
 }
@@ -1,13 +1,31 @@
 package com.github.joshliford.amplifyguitar.model;
 
+// named unlock conditions from before rewards stored their rule as data (rewardStat + threshold)
+// only used to resolve the rule for rows that don't have those columns yet; new rewards don't need a value here
 public enum RewardCondition {
-    LESSON_1,
-    LESSON_5,
-    STREAK_3,
-    STREAK_5,
-    LEVEL_2,
-    LEVEL_5,
-    LEVEL_10,
-    XP_100,
-    XP_500
+    LESSON_1(RewardStat.LESSONS_COMPLETED, 1),
+    LESSON_5(RewardStat.LESSONS_COMPLETED, 5),
+    STREAK_3(RewardStat.STREAK, 3),
+    STREAK_5(RewardStat.STREAK, 5),
+    LEVEL_2(RewardStat.LEVEL, 2),
+    LEVEL_5(RewardStat.LEVEL, 5),
+    LEVEL_10(RewardStat.LEVEL, 10),
+    XP_100(RewardStat.TOTAL_XP, 100),
+    XP_500(RewardStat.TOTAL_XP, 500);
+
+    private final RewardStat stat;
+    private final int threshold;
+
+    RewardCondition(RewardStat stat, int threshold) {
+        this.stat = stat;
+        this.threshold = threshold;
+    }
+
+    public RewardStat getStat() {
+        return stat;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
 }
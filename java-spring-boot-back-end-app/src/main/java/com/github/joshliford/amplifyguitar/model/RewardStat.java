@@ -0,0 +1,9 @@
+package com.github.joshliford.amplifyguitar.model;
+
+// the user stat a reward's threshold is compared against
+public enum RewardStat {
+    LESSONS_COMPLETED,
+    LEVEL,
+    STREAK,
+    TOTAL_XP
+}
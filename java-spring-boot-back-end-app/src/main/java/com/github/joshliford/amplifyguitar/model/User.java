@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -12,7 +13,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+// hot mutations (XP/level, lesson count, login streak) go through targeted UPDATEs in UserRepository; the remaining
+// entity saves (profile, password) only write the columns that changed instead of the whole row
 @Entity
+@DynamicUpdate
 @Table(name = "users")
 public class User {
 
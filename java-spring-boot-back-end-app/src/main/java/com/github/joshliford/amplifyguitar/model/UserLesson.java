@@ -4,21 +4,24 @@ import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
 
+// one row per (user, lesson): the unique key is what rejects a duplicate completion (double click, retry), not a prior read
 @Entity
-@Table(name = "user_lessons")
+@Table(name = "user_lessons", uniqueConstraints = @UniqueConstraint(name = UserLesson.USER_LESSON_KEY, columnNames = {"user_id", "lesson_id"}))
 public class UserLesson {
 
+    public static final String USER_LESSON_KEY = "uk_user_lessons_user_lesson";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
     // Many lessons can be completed by one user; foreign key stored in user_id column
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
     // Many user-lesson records can reference the same lesson; foreign key stored in lesson_id column
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "lesson_id")
     private Lesson lesson;
 
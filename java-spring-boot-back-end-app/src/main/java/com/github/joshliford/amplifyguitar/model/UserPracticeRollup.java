@@ -0,0 +1,62 @@
+package com.github.joshliford.amplifyguitar.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+// pre-aggregated practice totals: one row per user per day (day = the session's startedAt date)
+// kept up to date by PracticeRollupService when a session is completed, rebuilt from practice_sessions by its backfill
+@Entity
+@Table(name = "user_practice_rollup", uniqueConstraints = @UniqueConstraint(name = "uk_user_practice_rollup_user_date", columnNames = {"user_id", "practice_date"}))
+public class UserPracticeRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    // Many rollup rows belong to one user; foreign key stored in user_id column
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private LocalDate practiceDate;
+
+    @Column(nullable = false)
+    private Integer secondsPracticed = 0;
+
+    @Column(nullable = false)
+    private Integer sessions = 0;
+
+    @Column(nullable = false)
+    private Integer xpEarned = 0;
+
+    public UserPracticeRollup() {
+
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public LocalDate getPracticeDate() {
+        return practiceDate;
+    }
+
+    public Integer getSecondsPracticed() {
+        return secondsPracticed;
+    }
+
+    public Integer getSessions() {
+        return sessions;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Integer getXpEarned() {
+        return xpEarned;
+    }
+
+}
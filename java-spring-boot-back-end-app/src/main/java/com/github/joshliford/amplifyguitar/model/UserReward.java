@@ -5,19 +5,23 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+// one row per (user, reward): the unique key makes awarding idempotent under concurrent reward checks
 @Entity
+@Table(name = "user_reward", uniqueConstraints = @UniqueConstraint(name = UserReward.USER_REWARD_KEY, columnNames = {"user_id", "reward_id"}))
 public class UserReward {
 
+    public static final String USER_REWARD_KEY = "uk_user_reward_user_reward";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
 
     // Many rewards can be earned by one user; establishes the owning side of the relationship
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private User user;
 
     // Many user-reward records can reference the same reward; establishes the owning side of the relationship
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Reward reward;
 
     @CreationTimestamp
@@ -0,0 +1,67 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.joshliford.amplifyguitar.repository.UserLessonRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.BitSet;
+
+/*
+Core methods:
+completedLessonIds(Integer userId) - the user's completed lessons as a bitset over lesson IDs
+isCompleted(Integer userId, Integer lessonId)
+*/
+
+// completed lessons per user, cached as a bitset loaded from an ID-only query (no user_lessons/lesson/user rows)
+// keyed by lesson ID rather than lesson number: IDs never change when the catalog is edited, so entries stay valid
+// across catalog snapshots (unlike the reward bitsets, whose positions belong to one snapshot)
+// entries are replaced, never modified, so readers never see a half-updated set
+@Component
+public class CompletedLessons {
+
+    private final UserLessonRepository userLessonRepository;
+    private final Cache<Integer, BitSet> completed;
+
+    public CompletedLessons(UserLessonRepository userLessonRepository,
+                            @Value("${lessons.completed-cache.max-size:10000}") long maxSize,
+                            @Value("${lessons.completed-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.userLessonRepository = userLessonRepository;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // shared with the cache; callers must not modify it
+    public BitSet completedLessonIds(Integer userId) {
+        return completed.get(userId, this::load);
+    }
+
+    public boolean isCompleted(Integer userId, Integer lessonId) {
+        return completedLessonIds(userId).get(lessonId);
+    }
+
+    // after commit only: a rolled back completion must not show as completed
+    // a user without an entry is left alone; the next read loads the committed row anyway
+    @TransactionalEventListener
+    public void onLessonCompleted(LessonCompleted event) {
+        completed.asMap().computeIfPresent(event.userId(), (userId, bits) -> {
+            BitSet updated = (BitSet) bits.clone();
+            updated.set(event.lessonId());
+            return updated;
+        });
+    }
+
+    private BitSet load(Integer userId) {
+        BitSet bits = new BitSet();
+        for (Integer lessonId : userLessonRepository.findLessonIdsByUserId(userId)) {
+            bits.set(lessonId);
+        }
+        return bits;
+    }
+
+}
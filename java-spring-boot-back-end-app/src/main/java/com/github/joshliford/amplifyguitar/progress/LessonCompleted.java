@@ -0,0 +1,5 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+// a lesson was completed; its XP, lesson count and rewards are applied asynchronously by ProgressEventPipeline
+public record LessonCompleted(Integer userId, Integer lessonId, int xp) {
+}
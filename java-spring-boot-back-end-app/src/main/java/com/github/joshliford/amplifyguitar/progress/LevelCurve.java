@@ -0,0 +1,85 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+Core methods:
+levelFor(int totalXp) - level, in-level XP, XP needed for the next level and title for a lifetime XP total
+xpToReach(int level) - cumulative XP needed to reach a level from level 1
+xpForNextLevel(int level) - XP needed to go from level to level + 1
+titleFor(int level)
+*/
+
+// the single source of truth for the level curve; the progress drain, the user response and batch jobs all use it
+// going from level L to L + 1 costs baseXp + stepXp * L, so the XP needed to reach level L is an arithmetic series:
+//   baseXp * (L - 1) + stepXp * (L - 1) * L / 2
+// and the level for a total T is its closed-form inverse (O(1), no level-by-level loop):
+//   floor((sqrt(offset^2 + 2 * stepXp * (baseXp + T)) - offset) / stepXp)   with offset = baseXp - stepXp / 2
+@Component
+public class LevelCurve {
+
+    private final int baseXp;
+    private final int stepXp;
+    // index = level - 1; levels past the end keep the last title
+    private final String[] titles;
+
+    public LevelCurve(@Value("${progress.levels.base-xp:100}") int baseXp,
+                      @Value("${progress.levels.step-xp:50}") int stepXp,
+                      @Value("${progress.levels.titles:Beginner,Novice,Apprentice,Strummer,Rhythm Player,Lead Player,Intermediate,Advanced,Expert,Master}") List<String> titles) {
+        if (baseXp <= 0 || stepXp <= 0) {
+            throw new IllegalArgumentException("Level curve base and step XP must be positive");
+        }
+        if (titles.isEmpty()) {
+            throw new IllegalArgumentException("Level curve needs at least one title");
+        }
+        this.baseXp = baseXp;
+        this.stepXp = stepXp;
+        this.titles = titles.stream().map(String::trim).toArray(String[]::new);
+    }
+
+    public Level levelFor(int totalXp) {
+        int total = Math.max(totalXp, 0);
+        int level = (int) Math.floor((Math.sqrt(getOffset() * getOffset() + 2.0 * stepXp * (baseXp + (double) total)) - getOffset()) / stepXp);
+        // guard against floating point rounding at exact level boundaries
+        while (level > 1 && xpToReach(level) > total) {
+            level--;
+        }
+        while (xpToReach(level + 1) <= total) {
+            level++;
+        }
+        return new Level(level, (int) (total - xpToReach(level)), xpForNextLevel(level), titleFor(level));
+    }
+
+    public long xpToReach(int level) {
+        long completed = Math.max(level, 1) - 1L;
+        return baseXp * completed + stepXp * completed * (completed + 1) / 2;
+    }
+
+    public int xpForNextLevel(int level) {
+        return baseXp + stepXp * level;
+    }
+
+    public String titleFor(int level) {
+        return titles[Math.min(Math.max(level, 1), titles.length) - 1];
+    }
+
+    public int getBaseXp() {
+        return baseXp;
+    }
+
+    public int getStepXp() {
+        return stepXp;
+    }
+
+    // baseXp - stepXp / 2, the shift used by the closed-form inverse
+    public double getOffset() {
+        return baseXp - stepXp / 2.0;
+    }
+
+    public record Level(int level, int currentXp, int xpForNextLevel, String title) {
+    }
+
+}
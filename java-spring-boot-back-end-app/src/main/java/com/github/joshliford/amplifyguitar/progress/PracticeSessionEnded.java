@@ -0,0 +1,5 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+// a practice session was ended with XP to award; applied asynchronously by ProgressEventPipeline
+public record PracticeSessionEnded(Integer userId, Integer sessionId, int xp) {
+}
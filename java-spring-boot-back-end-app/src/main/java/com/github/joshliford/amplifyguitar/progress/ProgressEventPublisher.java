@@ -0,0 +1,44 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+import com.github.joshliford.amplifyguitar.model.ProgressEvent;
+import com.github.joshliford.amplifyguitar.model.ProgressEventType;
+import com.github.joshliford.amplifyguitar.repository.ProgressEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/*
+Core methods:
+publish(LessonCompleted event)
+publish(PracticeSessionEnded event)
+*/
+
+// writes the outbox row and publishes the domain event; must join the caller's transaction so the event exists
+// exactly when the completion it describes does (the pipeline only picks it up after that transaction commits)
+@Component
+public class ProgressEventPublisher {
+
+    private final ProgressEventRepository progressEventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public ProgressEventPublisher(ProgressEventRepository progressEventRepository, ApplicationEventPublisher applicationEventPublisher) {
+        this.progressEventRepository = progressEventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(LessonCompleted event) {
+        progressEventRepository.save(new ProgressEvent(LocalDateTime.now(), ProgressEventType.LESSON_COMPLETED, 1, event.lessonId(), event.userId(), event.xp()));
+        applicationEventPublisher.publishEvent(event);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(PracticeSessionEnded event) {
+        progressEventRepository.save(new ProgressEvent(LocalDateTime.now(), ProgressEventType.PRACTICE_SESSION_ENDED, 0, event.sessionId(), event.userId(), event.xp()));
+        applicationEventPublisher.publishEvent(event);
+    }
+
+}
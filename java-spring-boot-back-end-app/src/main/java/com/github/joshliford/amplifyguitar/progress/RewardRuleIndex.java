@@ -0,0 +1,112 @@
+package com.github.joshliford.amplifyguitar.progress;
+
+import com.github.joshliford.amplifyguitar.model.Reward;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
+
+import java.util.*;
+
+/*
+Core methods:
+collectCrossed(RewardStat stat, int from, int to, BitSet out) - rules whose threshold a stat change from -> to crossed
+collectReached(RewardStat stat, int value, BitSet out) - every rule a stat value satisfies
+reward(int bit) / bitOf(Integer rewardId) - map between rewards and their bit positions
+*/
+
+// reward rules indexed by the stat they depend on; per stat the thresholds are sorted ascending in an int[] with the
+// matching bit positions in a parallel array, so finding the rules a stat change crossed is two binary searches
+// every reward gets a dense bit position (its index in getRewards()) used by the per-user earned reward bitsets
+// immutable; built with the catalog snapshot, so bit positions are only meaningful within one snapshot version
+public final class RewardRuleIndex {
+
+    private final List<Reward> rewards;
+    private final Map<Integer, Integer> bitsById;
+    private final Map<RewardStat, Rules> rulesByStat;
+
+    public RewardRuleIndex(List<Reward> rewards) {
+        this.rewards = List.copyOf(rewards);
+        this.bitsById = new HashMap<>();
+        Map<RewardStat, List<int[]>> thresholdsByStat = new EnumMap<>(RewardStat.class);
+        for (int bit = 0; bit < this.rewards.size(); bit++) {
+            Reward reward = this.rewards.get(bit);
+            bitsById.put(reward.getId(), bit);
+            RewardStat stat = statOf(reward);
+            Integer threshold = thresholdOf(reward);
+            // a reward without a rule can't be unlocked automatically
+            if (stat != null && threshold != null) {
+                thresholdsByStat.computeIfAbsent(stat, key -> new ArrayList<>()).add(new int[]{threshold, bit});
+            }
+        }
+        this.rulesByStat = new EnumMap<>(RewardStat.class);
+        thresholdsByStat.forEach((stat, rules) -> {
+            rules.sort(Comparator.comparingInt(rule -> rule[0]));
+            rulesByStat.put(stat, new Rules(
+                    rules.stream().mapToInt(rule -> rule[0]).toArray(),
+                    rules.stream().mapToInt(rule -> rule[1]).toArray()
+            ));
+        });
+    }
+
+    // sets the bit of every rule with from < threshold <= to
+    public void collectCrossed(RewardStat stat, int from, int to, BitSet out) {
+        Rules rules = rulesByStat.get(stat);
+        if (rules == null || to <= from) {
+            return;
+        }
+        int end = upperBound(rules.thresholds(), to);
+        for (int i = upperBound(rules.thresholds(), from); i < end; i++) {
+            out.set(rules.bits()[i]);
+        }
+    }
+
+    // sets the bit of every rule with threshold <= value
+    public void collectReached(RewardStat stat, int value, BitSet out) {
+        collectCrossed(stat, Integer.MIN_VALUE, value, out);
+    }
+
+    public List<Reward> getRewards() {
+        return rewards;
+    }
+
+    public Reward reward(int bit) {
+        return rewards.get(bit);
+    }
+
+    // -1 if the reward isn't part of this index (i.e. added after the snapshot was built)
+    public int bitOf(Integer rewardId) {
+        return bitsById.getOrDefault(rewardId, -1);
+    }
+
+    // rows seeded before rewardStat/threshold existed fall back to their named condition
+    private static RewardStat statOf(Reward reward) {
+        if (reward.getRewardStat() != null) {
+            return reward.getRewardStat();
+        }
+        return reward.getRewardCondition() != null ? reward.getRewardCondition().getStat() : null;
+    }
+
+    private static Integer thresholdOf(Reward reward) {
+        if (reward.getThreshold() != null) {
+            return reward.getThreshold();
+        }
+        return reward.getRewardCondition() != null ? reward.getRewardCondition().getThreshold() : null;
+    }
+
+    // index of the first threshold greater than value
+    private static int upperBound(int[] thresholds, int value) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Rules(int[] thresholds, int[] bits) {
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+// token buckets in a bounded Caffeine cache (striped, lock-free reads) with one CAS per request on the bucket itself
+// idle buckets expire: once a bucket has been untouched for a full refill period it's full again, so dropping it
+// changes nothing and keeps a spray of one-off IPs/emails from growing the map
+@Component
+public class InMemoryRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public InMemoryRateLimitBackend(@Value("${security.login-rate-limit.cache.max-size:100000}") long maxSize,
+                                    @Value("${security.login-rate-limit.cache.idle-seconds:600}") long idleSeconds) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    @Override
+    public RateLimitResult tryConsume(String key, RateLimit limit) {
+        return buckets.get(key, k -> new TokenBucket(limit.capacity())).tryConsume(limit, System.nanoTime());
+    }
+
+    static final class TokenBucket {
+
+        private record State(double tokens, long refilledAt) {
+        }
+
+        private final AtomicReference<State> state;
+
+        TokenBucket(int capacity) {
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        RateLimitResult tryConsume(RateLimit limit, long now) {
+            double rate = limit.tokensPerNano();
+            while (true) {
+                State current = state.get();
+                // refill for the time since the last request, capped at capacity
+                double tokens = Math.min(limit.capacity(), current.tokens() + Math.max(0, now - current.refilledAt()) * rate);
+                boolean allowed = tokens >= 1;
+                double left = allowed ? tokens - 1 : tokens;
+                if (state.compareAndSet(current, new State(left, now))) {
+                    long retryAfter = allowed ? 0 : seconds((1 - left) / rate);
+                    return new RateLimitResult(allowed, limit.capacity(), (int) left, retryAfter, seconds((limit.capacity() - left) / rate));
+                }
+            }
+        }
+
+        // whole seconds, rounded up so clients never come back early
+        private static long seconds(double nanos) {
+            return (long) Math.ceil(nanos / 1_000_000_000d);
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+
+// throttles POST /api/auth/login and /api/auth/register with token buckets per client IP and per email
+// runs in the security chain ahead of JwtAuthenticationFilter, so a throttled request is answered with 429 before
+// it reaches the AuthenticationManager or any BCrypt work
+// the client IP is request.getRemoteAddr(); behind a proxy, set server.forward-headers-strategy so it's the real client
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> AUTH_PATHS = Set.of("/api/auth/login", "/api/auth/register");
+
+    // login/register bodies are a few hundred bytes; anything bigger is passed on without the per-email check
+    private static final int MAX_BODY_BYTES = 4096;
+
+    private final RateLimitBackend rateLimitBackend;
+    private final JsonMapper jsonMapper;
+    private final boolean enabled;
+    private final RateLimit ipLimit;
+    private final RateLimit emailLimit;
+
+    public LoginRateLimitFilter(RateLimitBackend rateLimitBackend, JsonMapper jsonMapper,
+                                @Value("${security.login-rate-limit.enabled:true}") boolean enabled,
+                                @Value("${security.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                                @Value("${security.login-rate-limit.ip.refill-period-seconds:60}") long ipRefillSeconds,
+                                @Value("${security.login-rate-limit.email.capacity:5}") int emailCapacity,
+                                @Value("${security.login-rate-limit.email.refill-period-seconds:60}") long emailRefillSeconds) {
+        this.rateLimitBackend = rateLimitBackend;
+        this.jsonMapper = jsonMapper;
+        this.enabled = enabled;
+        this.ipLimit = new RateLimit(ipCapacity, Duration.ofSeconds(ipRefillSeconds));
+        this.emailLimit = new RateLimit(emailCapacity, Duration.ofSeconds(emailRefillSeconds));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !AUTH_PATHS.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+
+        // per IP first: it's free to check and stops a flood without reading any bodies
+        RateLimitResult result = rateLimitBackend.tryConsume("ip:" + request.getRemoteAddr(), ipLimit);
+        if (!result.allowed()) {
+            reject(response, result);
+            return;
+        }
+
+        // per email: spreading guesses for one account over many IPs still hits this one
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String email = cachedRequest.isComplete() ? emailOf(cachedRequest.getBody()) : null;
+        if (email != null) {
+            RateLimitResult emailResult = rateLimitBackend.tryConsume("email:" + email, emailLimit);
+            if (!emailResult.allowed()) {
+                reject(response, emailResult);
+                return;
+            }
+            // report whichever bucket is closer to running out
+            if (emailResult.remaining() < result.remaining()) {
+                result = emailResult;
+            }
+        }
+
+        writeLimitHeaders(response, result);
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private String emailOf(byte[] body) {
+        try {
+            JsonNode email = jsonMapper.readTree(body).get("email");
+            if (email == null || !email.isString() || email.asString().isBlank()) {
+                return null;
+            }
+            return email.asString().trim().toLowerCase(Locale.ROOT);
+        } catch (JacksonException e) {
+            // malformed JSON fails request validation anyway
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, RateLimitResult result) throws IOException {
+        writeLimitHeaders(response, result);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, result.retryAfterSeconds())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("Too many attempts. Please try again later.");
+    }
+
+    private void writeLimitHeaders(HttpServletResponse response, RateLimitResult result) {
+        response.setHeader("X-RateLimit-Limit", String.valueOf(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("X-RateLimit-Reset", String.valueOf(result.resetSeconds()));
+    }
+
+    // reads up to MAX_BODY_BYTES of the body up front and replays it (plus anything unread) to the controller
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+        private final boolean complete;
+        private final InputStream stream;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            byte[] head = original.readNBytes(MAX_BODY_BYTES + 1);
+            this.complete = head.length <= MAX_BODY_BYTES;
+            this.body = head;
+            this.stream = complete
+                    ? new ByteArrayInputStream(head)
+                    : new SequenceInputStream(new ByteArrayInputStream(head), original);
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        boolean isComplete() {
+            return complete;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return stream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    return stream.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    try {
+                        return stream.available() == 0;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // the body is already buffered (an oversized remainder is read blocking), so it is all available at once
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+import java.time.Duration;
+
+// token bucket shape: holds up to capacity tokens and refills the whole bucket evenly over refillPeriod
+public record RateLimit(int capacity, Duration refillPeriod) {
+
+    public double tokensPerNano() {
+        return (double) capacity / refillPeriod.toNanos();
+    }
+
+}
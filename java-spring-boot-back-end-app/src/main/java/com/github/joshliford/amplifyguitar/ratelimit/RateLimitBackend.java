@@ -0,0 +1,10 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+// where the token buckets live; InMemoryRateLimitBackend keeps them per instance, a shared store (i.e. Redis)
+// can implement this to enforce the limits across instances
+public interface RateLimitBackend {
+
+    // take one token from the bucket for key, creating a full bucket if there is none
+    RateLimitResult tryConsume(String key, RateLimit limit);
+
+}
@@ -0,0 +1,5 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+// outcome of taking one token; the numbers back the Retry-After and X-RateLimit-* response headers
+public record RateLimitResult(boolean allowed, int limit, int remaining, long retryAfterSeconds, long resetSeconds) {
+}
@@ -0,0 +1,7 @@
+package com.github.joshliford.amplifyguitar.repository;
+
+import com.github.joshliford.amplifyguitar.model.BatchJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+}
@@ -1,11 +1,79 @@
 package com.github.joshliford.amplifyguitar.repository;
 
+import com.github.joshliford.amplifyguitar.dto.response.GoalPracticeStatsDTO;
 import com.github.joshliford.amplifyguitar.model.PracticeSession;
 import com.github.joshliford.amplifyguitar.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PracticeSessionRepository extends JpaRepository<PracticeSession, Integer> {
-    List<PracticeSession> findByUserOrderByStartedAtDesc(User user);
+
+    // keyset page of a user's sessions (newest first), served by the (user_id, started_at, id) index
+    // the cursor is the (startedAt, id) of the last session on the previous page; null cursor = first page
+    // from/to and goalId are optional filters (null = not filtered)
+    @Query("""
+            SELECT s FROM PracticeSession s LEFT JOIN FETCH s.goal g
+            WHERE s.user = :user
+              AND (:goalId IS NULL OR g.id = :goalId)
+              AND (:from IS NULL OR s.startedAt >= :from)
+              AND (:to IS NULL OR s.startedAt < :to)
+              AND (:cursorStartedAt IS NULL
+                   OR s.startedAt < :cursorStartedAt
+                   OR (s.startedAt = :cursorStartedAt AND s.id < :cursorId))
+            ORDER BY s.startedAt DESC, s.id DESC
+            """)
+    List<PracticeSession> findPage(@Param("user") User user,
+                                   @Param("goalId") Integer goalId,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("cursorStartedAt") LocalDateTime cursorStartedAt,
+                                   @Param("cursorId") Integer cursorId,
+                                   Limit limit);
+
+    // goal is lazy; joined here because ending a session needs its duration and XP reward
+    @Query("SELECT s FROM PracticeSession s LEFT JOIN FETCH s.goal WHERE s.id = :id")
+    Optional<PracticeSession> findWithGoalById(@Param("id") Integer id);
+
+    // practice totals per goal (completed sessions only); returns one row per goal, not per session
+    // free play sessions (no goal) are grouped under a null goalId/goalTitle
+    @Query("""
+            SELECT new com.github.joshliford.amplifyguitar.dto.response.GoalPracticeStatsDTO(
+                g.id, g.title, COUNT(s), SUM(COALESCE(s.durationInSeconds, 0)))
+            FROM PracticeSession s LEFT JOIN s.goal g
+            WHERE s.user = :user AND s.completed = true
+            GROUP BY g.id, g.title
+            ORDER BY g.id
+            """)
+    List<GoalPracticeStatsDTO> findPracticeTotalsByGoal(@Param("user") User user);
+
+    // fallback for practice stats while user_practice_rollup is still being built: the same totals and per-day sums,
+    // read from the sessions themselves
+    @Query("""
+            SELECT COALESCE(SUM(COALESCE(s.durationInSeconds, 0)), 0) AS totalSeconds, COUNT(s) AS sessionCount
+            FROM PracticeSession s
+            WHERE s.user = :user AND s.completed = true
+            """)
+    UserPracticeRollupRepository.PracticeTotals findPracticeTotals(@Param("user") User user);
+
+    @Query("""
+            SELECT CAST(s.startedAt AS LocalDate) AS practiceDate, COUNT(s) AS sessions,
+                   SUM(COALESCE(s.durationInSeconds, 0)) AS secondsPracticed
+            FROM PracticeSession s
+            WHERE s.user = :user AND s.completed = true AND s.startedAt >= :from
+            GROUP BY CAST(s.startedAt AS LocalDate)
+            """)
+    List<PracticeDay> findPracticeDays(@Param("user") User user, @Param("from") LocalDateTime from);
+
+    interface PracticeDay {
+        LocalDate getPracticeDate();
+        Long getSessions();
+        Long getSecondsPracticed();
+    }
 }
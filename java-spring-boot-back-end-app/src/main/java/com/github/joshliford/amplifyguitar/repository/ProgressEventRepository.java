@@ -0,0 +1,19 @@
+package com.github.joshliford.amplifyguitar.repository;
+
+import com.github.joshliford.amplifyguitar.model.ProgressEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProgressEventRepository extends JpaRepository<ProgressEvent, Long> {
+
+    // pending events for one user in the order they were recorded
+    List<ProgressEvent> findByUserIdOrderByIdAsc(Integer userId);
+
+    // users with events left behind (crash, failed drain) that are older than the cutoff
+    @Query("SELECT DISTINCT e.userId FROM ProgressEvent e WHERE e.createdAt < :cutoff")
+    List<Integer> findUserIdsWithEventsBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,13 +1,14 @@
 package com.github.joshliford.amplifyguitar.repository;
 
-import com.github.joshliford.amplifyguitar.model.Lesson;
-import com.github.joshliford.amplifyguitar.model.User;
 import com.github.joshliford.amplifyguitar.model.UserLesson;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface UserLessonRepository extends JpaRepository<UserLesson, Integer> {
-    boolean existsByUserAndLesson(User user, Lesson lesson);
-    List<UserLesson> findByUserOrderByCompletedAtDesc(User user);
+    // only the IDs; used to build the cached completed-lesson bitset without loading user_lessons/lesson/user rows
+    @Query("SELECT ul.lesson.id FROM UserLesson ul WHERE ul.user.id = :userId")
+    List<Integer> findLessonIdsByUserId(@Param("userId") Integer userId);
 }
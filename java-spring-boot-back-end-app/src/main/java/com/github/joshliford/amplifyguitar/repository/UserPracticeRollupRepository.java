@@ -0,0 +1,71 @@
+package com.github.joshliford.amplifyguitar.repository;
+
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.model.UserPracticeRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface UserPracticeRollupRepository extends JpaRepository<UserPracticeRollup, Integer> {
+
+    List<UserPracticeRollup> findByUserAndPracticeDateGreaterThanEqualOrderByPracticeDateAsc(User user, LocalDate from);
+
+    @Query("""
+            SELECT COALESCE(SUM(r.secondsPracticed), 0) AS totalSeconds, COALESCE(SUM(r.sessions), 0) AS sessionCount
+            FROM UserPracticeRollup r
+            WHERE r.user = :user
+            """)
+    PracticeTotals findPracticeTotals(@Param("user") User user);
+
+    // add a completed session's totals to its day; creates the row on the first session of the day
+    // single atomic statement, so concurrent completions for the same user/day can't lose updates
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_practice_rollup (user_id, practice_date, seconds_practiced, sessions, xp_earned)
+            VALUES (:userId, :practiceDate, :seconds, :sessions, :xpEarned)
+            ON DUPLICATE KEY UPDATE
+                seconds_practiced = seconds_practiced + :seconds,
+                sessions = sessions + :sessions,
+                xp_earned = xp_earned + :xpEarned
+            """)
+    void increment(@Param("userId") Integer userId,
+                   @Param("practiceDate") LocalDate practiceDate,
+                   @Param("seconds") int seconds,
+                   @Param("sessions") int sessions,
+                   @Param("xpEarned") int xpEarned);
+
+    // startup check: the rollup is complete when it accounts for every completed session
+    @Query("SELECT COUNT(s) FROM PracticeSession s WHERE s.completed = true")
+    long countCompletedSessions();
+
+    @Query("SELECT COALESCE(SUM(r.sessions), 0) FROM UserPracticeRollup r")
+    long sumRolledUpSessions();
+
+    // backfill: user IDs that have completed sessions, in ID order so they can be split into chunks
+    @Query("SELECT DISTINCT s.user.id FROM PracticeSession s WHERE s.completed = true ORDER BY s.user.id")
+    List<Integer> findUserIdsWithCompletedSessions();
+
+    @Modifying
+    @Query("DELETE FROM UserPracticeRollup r WHERE r.user.id IN :userIds")
+    int deleteByUserIds(@Param("userIds") List<Integer> userIds);
+
+    // backfill: rebuild the rows for a chunk of users straight from practice_sessions (set-based, no entities loaded)
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_practice_rollup (user_id, practice_date, seconds_practiced, sessions, xp_earned)
+            SELECT s.user_id, CAST(s.started_at AS DATE), SUM(COALESCE(s.duration_in_seconds, 0)), COUNT(*), SUM(COALESCE(s.xp_earned, 0))
+            FROM practice_sessions s
+            WHERE s.completed = true AND s.user_id IN (:userIds)
+            GROUP BY s.user_id, CAST(s.started_at AS DATE)
+            """)
+    int insertFromSessions(@Param("userIds") List<Integer> userIds);
+
+    interface PracticeTotals {
+        Long getTotalSeconds();
+        Long getSessionCount();
+    }
+}
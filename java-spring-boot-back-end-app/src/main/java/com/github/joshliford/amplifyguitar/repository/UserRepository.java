@@ -1,12 +1,106 @@
 package com.github.joshliford.amplifyguitar.repository;
 
 import com.github.joshliford.amplifyguitar.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
     // Optional handles user existing or not existing
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    // progress columns only, for a row the caller holds the lock on (level values computed by ProgressService.applyProgress)
+    // XP and lesson count are added by the database, so an award is never lost even if another writer changed the row;
+    // the level columns are only written if total_xp is still the value they were computed from (0 rows otherwise)
+    // clears the persistence context so the caller's User instance is detached and never flushed as a second UPDATE
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE User u SET
+                u.totalXp = COALESCE(u.totalXp, 0) + :xp,
+                u.currentLevel = :level,
+                u.currentXp = :currentXp,
+                u.currentTitle = :title,
+                u.lessonsCompleted = COALESCE(u.lessonsCompleted, 0) + :lessons,
+                u.updatedAt = :now
+            WHERE u.id = :id AND COALESCE(u.totalXp, 0) = :previousTotalXp
+            """)
+    int updateProgress(@Param("id") Integer id,
+                       @Param("previousTotalXp") int previousTotalXp,
+                       @Param("xp") int xp,
+                       @Param("lessons") int lessons,
+                       @Param("level") int level,
+                       @Param("currentXp") int currentXp,
+                       @Param("title") String title,
+                       @Param("now") LocalDateTime now);
+
+    // login streak columns only; guarded by date so a repeated (or concurrent) login on the same day changes nothing
+    @Modifying
+    @Query("""
+            UPDATE User u SET
+                u.lastLoginDate = :today,
+                u.currentStreak = :currentStreak,
+                u.longestStreak = :longestStreak,
+                u.updatedAt = :now
+            WHERE u.id = :id AND (u.lastLoginDate IS NULL OR u.lastLoginDate < :today)
+            """)
+    int recordLogin(@Param("id") Integer id,
+                    @Param("today") LocalDate today,
+                    @Param("currentStreak") int currentStreak,
+                    @Param("longestStreak") int longestStreak,
+                    @Param("now") LocalDateTime now);
+
+    // profile columns only; clears the persistence context so the caller's User is detached and never flushed as a
+    // full-row UPDATE over progress a drain applied after it was loaded
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.displayName = :displayName, u.email = :email, u.updatedAt = :now WHERE u.id = :id")
+    int updateProfile(@Param("id") Integer id,
+                      @Param("displayName") String displayName,
+                      @Param("email") String email,
+                      @Param("now") LocalDateTime now);
+
+    // password change by the user; same as updateProfile, only the hash and updated_at are written
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash, u.updatedAt = :now WHERE u.id = :id")
+    int updatePassword(@Param("id") Integer id, @Param("passwordHash") String passwordHash, @Param("now") LocalDateTime now);
+
+    // password hash only (re-hash on login after a BCrypt cost change)
+    @Modifying
+    @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.id = :id")
+    int updatePasswordHash(@Param("id") Integer id, @Param("passwordHash") String passwordHash);
+
+    // progress columns together with the XP and lessons still pending in the outbox for the user
+    // one statement, so a drain committing concurrently is seen either whole (applied to the row, events deleted) or
+    // not at all, never as stale columns with the events already gone
+    @Query("""
+            SELECT u.totalXp AS totalXp,
+                u.currentLevel AS currentLevel,
+                u.lessonsCompleted AS lessonsCompleted,
+                (SELECT COALESCE(SUM(e.xp), 0) FROM ProgressEvent e WHERE e.userId = u.id) AS pendingXp,
+                (SELECT COALESCE(SUM(e.lessonsCompleted), 0) FROM ProgressEvent e WHERE e.userId = u.id) AS pendingLessonsCompleted
+            FROM User u
+            WHERE u.id = :id
+            """)
+    Optional<ProgressWithPending> findProgressWithPending(@Param("id") Integer id);
+
+    // locks the user row for the rest of the transaction; serializes progress event processing for one user
+    // across threads and app instances
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Integer id);
+
+    interface ProgressWithPending {
+        Integer getTotalXp();
+        Integer getCurrentLevel();
+        Integer getLessonsCompleted();
+        Long getPendingXp();
+        Long getPendingLessonsCompleted();
+    }
 }
@@ -2,9 +2,17 @@ package com.github.joshliford.amplifyguitar.repository;
 
 import com.github.joshliford.amplifyguitar.model.UserReward;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface UserRewardRepository extends JpaRepository<UserReward, Integer> {
-    List<UserReward> findByUserId(Integer userId);
+    // reward is lazy; joined here because every caller renders it (one query instead of one per earned reward)
+    @Query("SELECT ur FROM UserReward ur JOIN FETCH ur.reward WHERE ur.user.id = :userId")
+    List<UserReward> findByUserId(@Param("userId") Integer userId);
+
+    // only the IDs; used to build the cached earned-reward bitset without loading reward/user rows
+    @Query("SELECT ur.reward.id FROM UserReward ur WHERE ur.user.id = :userId")
+    List<Integer> findRewardIdsByUserId(@Param("userId") Integer userId);
 }
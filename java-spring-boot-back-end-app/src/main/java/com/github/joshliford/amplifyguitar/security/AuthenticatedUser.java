@@ -0,0 +1,48 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+// lightweight principal stored in the SecurityContext for JWT-authenticated requests
+// carries the user ID so controllers can skip a second lookup by email
+public class AuthenticatedUser implements UserDetails {
+
+    private final Integer id;
+
+    private final String email;
+
+    public AuthenticatedUser(Integer id, String email) {
+        this.id = id;
+        this.email = email;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    // email is used as the username throughout the app
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    // credentials are not needed after the token has been verified
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    // Amplify does not use RBAC so leave as empty list
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// BCrypt at a configurable cost (security.password.bcrypt-strength); a stored hash with any other cost is re-hashed
+// at the configured one on the next successful login (DaoAuthenticationProvider -> UserDetailsPasswordService)
+// the stock encoder only upgrades weaker hashes; this one also re-hashes stronger ones, so lowering the cost to cut
+// login latency takes effect for existing users too
+public class BCryptCostPasswordEncoder extends BCryptPasswordEncoder {
+
+    private final int strength;
+
+    public BCryptCostPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    // upgradeEncoding itself is final; it delegates here for non-empty hashes
+    @Override
+    protected boolean upgradeEncodingNonNull(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // "$2a$10$..." -> 10; -1 if the value isn't a BCrypt hash
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+}
@@ -3,14 +3,14 @@ package com.github.joshliford.amplifyguitar.security;
 import com.github.joshliford.amplifyguitar.model.User;
 import com.github.joshliford.amplifyguitar.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-
-import java.util.Collections;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -19,20 +19,24 @@ public class CustomUserDetailsService implements UserDetailsService {
     }
 
     // override Spring default UserDetails with custom User object (using email as username)
+    // the principal keeps the loaded User so login doesn't have to look it up again
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User existingUser = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(existingUser.getEmail()) // override and set email as username
-                .password(existingUser.getPasswordHash())
-                .authorities(Collections.emptyList()) // Amplify does not use RBAC so leave as empty list
-                .accountExpired(false)
-                .accountLocked(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
+        return new UserAccount(existingUser);
+    }
+
+    // called by Spring Security after a successful login whose stored hash doesn't match the configured BCrypt cost
+    // (see BCryptCostPasswordEncoder); newPassword is the already encoded re-hash of the password just verified
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((UserAccount) userDetails).getUser();
+        userRepository.updatePasswordHash(user.getId(), newPassword);
+        user.setPasswordHash(newPassword);
+        return userDetails;
     }
 
 }
@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -16,11 +15,11 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, PrincipalCache principalCache) {
         this.jwtUtil = jwtUtil;
-        this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
     }
 
     @Override
@@ -30,9 +29,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // extract Auth header from request
         String authorizationHeader = request.getHeader("Authorization");
 
-        String email = null;
-        String jwt;
-
         // check if header exists with Bearer token
         if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -40,24 +36,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // extract token from header
-        jwt = authorizationHeader.substring(7);
+        String jwt = authorizationHeader.substring(7);
 
-        try {
-            email = jwtUtil.extractEmail(jwt);
-        } catch (Exception exception) {
-            // if token is not correct, the email cannot be extracted
-        }
+        // verify signature + expiry in a single parse (null if the token is not correct)
+        JwtClaims claims = jwtUtil.validateToken(jwt);
 
-        // validate token and set authentication if:
-        //   - Email was extracted successfully
+        // set authentication if:
+        //   - Token was verified successfully
         //   - User is not already authenticated
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.customUserDetailsService.loadUserByUsername(email);
-            if (jwtUtil.isTokenValid(jwt, email)) {
+        if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // resolve the principal from the cache (only queries the users table on a miss)
+            AuthenticatedUser principal = principalCache.getPrincipal(claims.getSubject());
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,               // who is authenticated
+                        principal,                 // who is authenticated (carries the user ID)
                         null,                      // credentials not needed after authentication succeeds
-                        userDetails.getAuthorities() // empty list since we are not using RBAC
+                        principal.getAuthorities() // empty list since we are not using RBAC
                 );
                 // store authentication in SecurityContext (tells Spring Security "user is authenticated")
                 SecurityContextHolder.getContext().setAuthentication(authenticationToken);
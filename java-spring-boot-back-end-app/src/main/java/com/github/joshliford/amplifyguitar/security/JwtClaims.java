@@ -0,0 +1,37 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import java.time.Instant;
+
+// typed result of a single verified parse of a JWT (see JwtUtil.validateToken)
+public class JwtClaims {
+
+    // token subject is the users email
+    private final String subject;
+
+    private final Instant issuedAt;
+
+    private final Instant expiresAt;
+
+    public JwtClaims(String subject, Instant issuedAt, Instant expiresAt) {
+        this.subject = subject;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
+
+}
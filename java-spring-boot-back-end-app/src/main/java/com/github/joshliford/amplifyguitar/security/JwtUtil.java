@@ -1,6 +1,11 @@
 package com.github.joshliford.amplifyguitar.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -9,8 +14,21 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 
+/*
+Core methods:
+generateToken(String email)
+validateToken(String token) - verify signature + expiry once and return the typed claims (null if invalid)
+extractEmail(String token)
+isTokenValid(String token, String email)
+*/
+
 @Component
 public class JwtUtil {
 
@@ -20,9 +38,21 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    // optional cache of recently verified tokens (keyed by SHA-256 digest, never the raw token)
+    @Value("${jwt.verified-cache.enabled:false}")
+    private boolean verifiedCacheEnabled;
+
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
     // store converted key
     private SecretKey secretKey;
 
+    // parser is immutable and thread-safe so build it once instead of per call
+    private JwtParser jwtParser;
+
+    private Cache<String, JwtClaims> verifiedTokens;
+
     @PostConstruct
     public void init() {
         // validate secret length (>= 32 bytes for HS256 algorithm)
@@ -36,6 +66,18 @@ public class JwtUtil {
            3. Keys.hmacShaKeyFor() creates the cryptographic key and validates strength
         */
         secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+
+        if (verifiedCacheEnabled) {
+            // each entry expires exactly when its token does
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(verifiedCacheMaxSize)
+                    .expireAfter(Expiry.creating((String digest, JwtClaims claims) ->
+                            Duration.between(Instant.now(), claims.getExpiresAt())))
+                    .build();
+        }
     }
 
     public String generateToken(String email) {
@@ -47,23 +89,68 @@ public class JwtUtil {
                 .compact();
     }
 
+    // parses and verifies the token once; returns null if the signature is bad, the token is malformed, or expired
+    public JwtClaims validateToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+
+        String digest = digest(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        JwtClaims claims = verify(token);
+        if (claims != null) {
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
     public String extractEmail(String token) {
         return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token, String email) {
-        return extractEmail(token).equals(email) && !isTokenExpired(token);
+        JwtClaims claims = validateToken(token);
+        return claims != null && claims.getSubject().equals(email);
     }
 
-    private boolean isTokenExpired(String token) {
-        return parseClaims(token).getExpiration().before(new Date());
+    private JwtClaims verify(String token) {
+        try {
+            // jjwt rejects expired tokens during parsing so no separate expiry check is needed
+            Claims claims = parseClaims(token);
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                return null;
+            }
+            return new JwtClaims(
+                    claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration().toInstant()
+            );
+        } catch (JwtException | IllegalArgumentException exception) {
+            return null;
+        }
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException exception) {
+            // SHA-256 is required on every JVM
+            throw new IllegalStateException(exception);
+        }
+    }
 }
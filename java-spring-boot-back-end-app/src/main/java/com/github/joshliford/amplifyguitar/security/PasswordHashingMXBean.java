@@ -0,0 +1,25 @@
+package com.github.joshliford.amplifyguitar.security;
+
+// password hashing pool metrics, exported over JMX as com.github.joshliford.amplifyguitar:type=PasswordHashing
+public interface PasswordHashingMXBean {
+
+    int getThreads();
+
+    int getQueueDepth();
+
+    int getQueueCapacity();
+
+    int getActiveHashes();
+
+    long getCompletedHashes();
+
+    // rejected because the queue was full or the wait timed out (answered with 503)
+    long getRejectedHashes();
+
+    double getAverageHashMillis();
+
+    double getMaxHashMillis();
+
+    double getAverageQueueWaitMillis();
+
+}
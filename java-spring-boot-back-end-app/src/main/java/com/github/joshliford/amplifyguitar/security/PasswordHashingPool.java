@@ -0,0 +1,199 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import com.github.joshliford.amplifyguitar.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+Core method:
+call(Supplier<T> hash) - run a BCrypt encode/verify on the pool and wait for it on the calling thread
+*/
+
+// dedicated, bounded pool for password hashing (BCrypt is deliberately CPU heavy)
+// sized to the core count so a login storm can use at most every core for hashing, never every request thread;
+// excess work waits in a bounded queue for at most queue-timeout-ms to start and is otherwise rejected with a 503 + Retry-After,
+// so lesson and dashboard requests keep their threads and CPU
+@Component
+public class PasswordHashingPool implements PasswordHashingMXBean {
+
+    private static final String OBJECT_NAME = "com.github.joshliford.amplifyguitar:type=PasswordHashing";
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long queueTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder queueWaitNanos = new LongAdder();
+
+    public PasswordHashingPool(@Value("${security.password.hashing.threads:0}") int threads,
+                               @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                               @Value("${security.password.hashing.queue-timeout-ms:2000}") long queueTimeoutMillis,
+                               @Value("${security.password.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        // 0 = one thread per core
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public <T> T call(Supplier<T> hash) {
+        long submittedAt = System.nanoTime();
+        // whoever flips this first decides: the pool thread runs the hash, or the caller gives up waiting for it
+        AtomicBoolean claimed = new AtomicBoolean();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                if (!claimed.compareAndSet(false, true)) {
+                    return null;
+                }
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return hash.get();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    hashNanos.add(elapsed);
+                    maxHashNanos.accumulate(elapsed);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+
+        try {
+            try {
+                return future.get(queueTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                // still queued: drop it; already hashing: the timeout only bounds the queue wait, so see it through
+                if (claimed.compareAndSet(false, true)) {
+                    future.cancel(false);
+                    throw busy();
+                }
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            if (claimed.compareAndSet(false, true)) {
+                future.cancel(false);
+            }
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (CancellationException e) {
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException busy() {
+        rejected.increment();
+        return new ServiceUnavailableException("Too many sign-in requests right now. Please try again shortly.", retryAfterSeconds);
+    }
+
+    // the last context to start owns the name (tests start several contexts in one JVM)
+    @PostConstruct
+    public void registerMBean() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(this, name);
+    }
+
+    @PreDestroy
+    public void shutdown() throws JMException {
+        executor.shutdownNow();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(OBJECT_NAME);
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+    }
+
+    @Override
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    @Override
+    public int getActiveHashes() {
+        return executor.getActiveCount();
+    }
+
+    @Override
+    public long getCompletedHashes() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejectedHashes() {
+        return rejected.sum();
+    }
+
+    @Override
+    public double getAverageHashMillis() {
+        long count = completed.sum();
+        return count > 0 ? hashNanos.sum() / 1e6 / count : 0;
+    }
+
+    @Override
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1e6;
+    }
+
+    @Override
+    public double getAverageQueueWaitMillis() {
+        long count = completed.sum();
+        return count > 0 ? queueWaitNanos.sum() / 1e6 / count : 0;
+    }
+
+}
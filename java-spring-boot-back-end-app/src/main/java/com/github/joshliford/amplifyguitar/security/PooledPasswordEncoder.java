@@ -0,0 +1,37 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// runs every encode/verify of the wrapped encoder on the PasswordHashingPool, so register, login and re-hash all share
+// one bounded set of hashing threads instead of burning request threads
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingPool pool;
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, PasswordHashingPool pool) {
+        this.delegate = delegate;
+        this.pool = pool;
+    }
+
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return pool.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return pool.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    // only parses the stored hash, no hashing
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/*
+Core methods:
+getPrincipal(String email) - resolve the authenticated principal for a verified token subject
+evict(String email) - drop a cached principal (i.e. user deleted or email changed)
+*/
+
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+
+    // bounded cache keyed by email; entries expire so deleted/changed accounts fall out on their own
+    private final Cache<String, AuthenticatedUser> principals;
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public AuthenticatedUser getPrincipal(String email) {
+        // only hits the users table on a cache miss
+        // returns null (and caches nothing) if the account no longer exists
+        return principals.get(email, key -> userRepository.findByEmail(key)
+                .map(user -> new AuthenticatedUser(user.getId(), user.getEmail()))
+                .orElse(null));
+    }
+
+    public void evict(String email) {
+        principals.invalidate(email);
+    }
+
+}
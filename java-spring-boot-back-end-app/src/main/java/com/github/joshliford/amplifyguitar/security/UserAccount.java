@@ -0,0 +1,41 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import com.github.joshliford.amplifyguitar.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+
+// principal of a username/password authentication (login); carries the User loaded for the password check so the
+// login flow can use it instead of looking the account up a second time
+public class UserAccount implements UserDetails {
+
+    private final User user;
+
+    public UserAccount(User user) {
+        this.user = user;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    // email is used as the username throughout the app
+    @Override
+    public String getUsername() {
+        return user.getEmail();
+    }
+
+    @Override
+    public String getPassword() {
+        return user.getPasswordHash();
+    }
+
+    // Amplify does not use RBAC so leave as empty list
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.emptyList();
+    }
+
+}
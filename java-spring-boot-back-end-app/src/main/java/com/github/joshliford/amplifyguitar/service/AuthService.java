@@ -7,12 +7,20 @@ import com.github.joshliford.amplifyguitar.exception.EmailAlreadyExistsException
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.User;
 import com.github.joshliford.amplifyguitar.security.JwtUtil;
+import com.github.joshliford.amplifyguitar.security.UserAccount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+
 /*
 Core methods:
 register(RegisterRequestDTO registerRequestDTO)
@@ -22,18 +30,23 @@ login(LoginRequestDTO loginRequestDTO)
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     private final UserService userService;
     private final ProgressService progressService;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final ExecutorService executor;
 
-    public AuthService(UserService userService, ProgressService progressService, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager) {
+    public AuthService(UserService userService, ProgressService progressService, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager,
+                       @Qualifier("virtualThreadExecutor") ExecutorService executor) {
         this.userService = userService;
         this.progressService = progressService;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
+        this.executor = executor;
     }
 
     public AuthResponseDTO register(RegisterRequestDTO registerRequestDTO) {
@@ -66,8 +79,9 @@ public class AuthService {
     }
 
     public AuthResponseDTO login(LoginRequestDTO loginRequestDTO) {
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             loginRequestDTO.getEmail(),
                             loginRequestDTO.getPassword()
@@ -78,14 +92,27 @@ public class AuthService {
             throw new ResourceNotFoundException("Invalid credentials");
         }
 
-        User authenticatedUser = userService.findByEmail(loginRequestDTO.getEmail());
+        // the user loaded for the password check; no second lookup by email
+        User authenticatedUser = ((UserAccount) authentication.getPrincipal()).getUser();
 
         String token = jwtUtil.generateToken(authenticatedUser.getEmail());
 
-        // update user streak upon login
-        progressService.updateStreak(authenticatedUser);
+        // update user streak upon login, off the request thread and only on the first login of the day
+        // (the response doesn't include the streak)
+        if (!LocalDate.now().equals(authenticatedUser.getLastLoginDate())) {
+            executor.execute(() -> updateStreak(authenticatedUser));
+        }
 
         return new AuthResponseDTO(authenticatedUser.getEmail(), token);
     }
 
+    private void updateStreak(User user) {
+        try {
+            progressService.updateStreak(user);
+        } catch (RuntimeException e) {
+            // login already succeeded; the streak catches up on the next login
+            log.warn("Failed to update login streak for user {}", user.getId(), e);
+        }
+    }
+
 }
@@ -1,9 +1,10 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.ChordSummaryDTO;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.Chord;
 import com.github.joshliford.amplifyguitar.model.Difficulty;
-import com.github.joshliford.amplifyguitar.repository.ChordRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,27 +20,29 @@ getTotalChords()
 @Service
 public class ChordService {
 
-    private final ChordRepository chordRepository;
+    // chords are read from the in-memory catalog snapshot (no database round trip)
+    private final CatalogService catalogService;
 
-    public ChordService(ChordRepository chordRepository) {
-        this.chordRepository = chordRepository;
+    public ChordService(CatalogService catalogService) {
+        this.catalogService = catalogService;
     }
 
-    public List<Chord> getAllChords() {
-        return chordRepository.findAllByOrderByTitleAsc();
+    // list views only need title, difficulty and image; the full chord comes from getChordById
+    public List<ChordSummaryDTO> getAllChords() {
+        return catalogService.current().getChordSummaries();
     }
 
-    public List<Chord> getAllChordsByDifficulty(Difficulty difficulty) {
-        return chordRepository.findByDifficultyOrderByTitleAsc(difficulty);
+    public List<ChordSummaryDTO> getAllChordsByDifficulty(Difficulty difficulty) {
+        return catalogService.current().getChordSummariesByDifficulty(difficulty);
     }
 
     public Chord getChordById(Integer id) {
-        return chordRepository.findById(id)
+        return catalogService.current().findChord(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Chord not found with id: " + id));
     }
 
     public Long getTotalChords() {
-        return chordRepository.count();
+        return (long) catalogService.current().getChords().size();
     }
 
 }
@@ -0,0 +1,78 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.dto.response.*;
+import com.github.joshliford.amplifyguitar.model.User;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/*
+Core method:
+getDashboard(Integer userId) - builds the full dashboard view in one request
+*/
+
+@Service
+public class DashboardService {
+
+    private final UserService userService;
+    private final RewardService rewardService;
+    private final ChordService chordService;
+    private final ScaleService scaleService;
+    private final SongService songService;
+    private final ExecutorService executor;
+
+    public DashboardService(UserService userService, RewardService rewardService, ChordService chordService, ScaleService scaleService, SongService songService, @Qualifier("virtualThreadExecutor") ExecutorService executor) {
+        this.userService = userService;
+        this.rewardService = rewardService;
+        this.chordService = chordService;
+        this.scaleService = scaleService;
+        this.songService = songService;
+        this.executor = executor;
+    }
+
+    public DashboardResponseDTO getDashboard(Integer userId) {
+        // single user lookup for the user part of the dashboard
+        // runs off the request thread too, so the request never holds a pooled connection while it waits on the parts
+        CompletableFuture<User> user = load(() -> userService.getUserById(userId));
+
+        // the parts are independent of each other so load them concurrently on virtual threads
+        // only what the dashboard page renders; lessons and practice history have their own endpoints
+        // earned rewards only need the id, so they're read alongside the user lookup rather than after it
+        CompletableFuture<List<RewardResponseDTO>> earnedRewards = load(() -> rewardService.getEarnedRewards(userService.getReference(userId)));
+        CompletableFuture<List<RewardResponseDTO>> allRewards = load(rewardService::getAllRewards);
+        CompletableFuture<Long> totalChords = load(chordService::getTotalChords);
+        CompletableFuture<Long> totalScales = load(scaleService::getTotalScales);
+        CompletableFuture<List<SongSummaryDTO>> songs = load(songService::getAllSongs);
+
+        return new DashboardResponseDTO(
+                join(allRewards),
+                join(earnedRewards),
+                join(songs),
+                join(totalChords),
+                join(totalScales),
+                userService.buildUserResponse(join(user))
+        );
+    }
+
+    private <T> CompletableFuture<T> load(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, executor);
+    }
+
+    // rethrow the original exception (i.e. ResourceNotFoundException) so GlobalExceptionHandler still maps it
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
 import com.github.joshliford.amplifyguitar.dto.response.CompleteLessonResponseDTO;
 import com.github.joshliford.amplifyguitar.dto.response.LessonResponseDTO;
 import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
@@ -7,75 +8,73 @@ import com.github.joshliford.amplifyguitar.exception.LessonAlreadyCompleteExcept
 import com.github.joshliford.amplifyguitar.exception.LessonLockedException;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
 import com.github.joshliford.amplifyguitar.model.User;
 import com.github.joshliford.amplifyguitar.model.UserLesson;
-import com.github.joshliford.amplifyguitar.repository.LessonRepository;
+import com.github.joshliford.amplifyguitar.progress.CompletedLessons;
+import com.github.joshliford.amplifyguitar.progress.LessonCompleted;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.progress.ProgressEventPublisher;
 import com.github.joshliford.amplifyguitar.repository.UserLessonRepository;
 import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository.ProgressWithPending;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /*
 Core methods:
 getLessons(User user) - return list of lessons with custom LessonResponseDTO
-completeLesson(User user, Integer lessonId) - creates a UserLesson record and awards XP
+completeLesson(User user, Integer lessonId) - creates a UserLesson record and queues its XP/rewards as a progress event
 getLessonById(Integer id) - get lesson by ID for jam room detail view
-buildLessonResponse(Lesson lesson, Set<Integer> completedLessonIds, User user) - helper method to build a single LessonResponseDTO from a lesson and user context
+buildLessonResponse(Lesson lesson, boolean completed, User user) - helper method to build a single LessonResponseDTO from a lesson and user context
 */
 
 @Service
 public class LessonService {
 
-    private final LessonRepository lessonRepository;
+    private final CatalogService catalogService;
     private final UserLessonRepository userLessonRepository;
-    private final ProgressService progressService;
-    private final UserRepository userRepository;
     private final RewardService rewardService;
+    private final ProgressEventPublisher progressEventPublisher;
+    private final LevelCurve levelCurve;
+    private final CompletedLessons completedLessons;
+    private final UserRepository userRepository;
 
-    public LessonService(LessonRepository lessonRepository, UserLessonRepository userLessonRepository, ProgressService progressService, UserRepository userRepository, RewardService rewardService) {
-        this.lessonRepository = lessonRepository;
+    public LessonService(CatalogService catalogService, UserLessonRepository userLessonRepository, RewardService rewardService, ProgressEventPublisher progressEventPublisher, LevelCurve levelCurve, CompletedLessons completedLessons, UserRepository userRepository) {
+        this.catalogService = catalogService;
         this.userLessonRepository = userLessonRepository;
-        this.progressService = progressService;
-        this.userRepository = userRepository;
         this.rewardService = rewardService;
+        this.progressEventPublisher = progressEventPublisher;
+        this.levelCurve = levelCurve;
+        this.completedLessons = completedLessons;
+        this.userRepository = userRepository;
     }
 
     public List<LessonResponseDTO> getLessons(User user) {
-        List<Lesson> lessons = lessonRepository.findAllByOrderByLessonNumberAsc();
-        List<UserLesson> userCompletedLessonList = userLessonRepository.findByUserOrderByCompletedAtDesc(user);
-
-        // extract lesson ids from completed list into a Set
-        Set<Integer> completedLessonIds = userCompletedLessonList.stream()
-                .map(userLesson -> userLesson.getLesson().getId())
-                .collect(Collectors.toSet());
+        // lessons come pre-sorted by lessonNumber from the in-memory catalog snapshot
+        List<Lesson> lessons = catalogService.current().getLessons();
+        BitSet completedLessonIds = completedLessons.completedLessonIds(user.getId());
 
         // transform each Lesson into a LessonResponseDTO with completed and locked status
         return lessons.stream()
-                .map(lesson -> buildLessonResponse(lesson, completedLessonIds, user))
+                .map(lesson -> buildLessonResponse(lesson, completedLessonIds.get(lesson.getId()), user))
                 .collect(Collectors.toList());
     }
 
+    // persists the completion and its outbox event in one transaction; XP, lesson count and rewards are applied by
+    // ProgressEventPipeline after commit
+    @Transactional
     public CompleteLessonResponseDTO completeLesson(User user, Integer lessonId) {
-        Lesson lesson = lessonRepository.findById(lessonId)
+        Lesson lesson = catalogService.current().findLesson(lessonId)
                 .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with id: " + lessonId));
 
-        boolean completed = userLessonRepository.existsByUserAndLesson(user, lesson);
-        boolean locked = lesson.getRequiredLevel() > user.getCurrentLevel();
-        int previousLevel = user.getCurrentLevel();
-
-        if (completed) {
-            throw new LessonAlreadyCompleteException("You've already completed this lesson");
-        }
-
-        if (locked) {
-            // throws 403 forbidden rather than 401 unauthorized
-            throw new LessonLockedException("You don't have permission to access this lesson yet");
-        }
-
         // create new record
         UserLesson lessonComplete = new UserLesson();
         lessonComplete.setCompleted(true);
@@ -84,44 +83,72 @@ public class LessonService {
         lessonComplete.setXpEarned(lesson.getXpReward());
         lessonComplete.setLesson(lesson);
 
-        // award XP to user & increment completedLessons by 1
-        Integer userCompletedLessons = user.getLessonsCompleted();
-        user.setLessonsCompleted(userCompletedLessons + 1);
-        userRepository.save(user);
-        User updatedUser = progressService.addXp(user.getId(), lesson.getXpReward());
+        // insert first: the (user_id, lesson_id) unique key rejects a second completion, so two concurrent requests
+        // can't both pass a check and award the XP twice
+        // this is also the already-completed check, so it still comes before the locked check
+        try {
+            userLessonRepository.saveAndFlush(lessonComplete);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateCompletion(e)) {
+                throw new LessonAlreadyCompleteException("You've already completed this lesson");
+            }
+            throw e;
+        }
+
+        // the passed-in user was loaded before this transaction, and a drain may have applied (and deleted) pending
+        // events since; the lock check and the response are computed only from the row and the outbox as read here,
+        // in one statement, with the XP and lessons still waiting in the outbox counted as already applied
+        ProgressWithPending progress = userRepository.findProgressWithPending(user.getId())
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + user.getId()));
+        int previousTotalXp = (progress.getTotalXp() != null ? progress.getTotalXp() : 0) + Math.toIntExact(progress.getPendingXp());
+        int previousLessonsCompleted = (progress.getLessonsCompleted() != null ? progress.getLessonsCompleted() : 0) + Math.toIntExact(progress.getPendingLessonsCompleted());
+        int previousLevel = progress.getPendingXp() > 0 ? levelCurve.levelFor(previousTotalXp).level() : progress.getCurrentLevel();
+
+        boolean locked = lesson.getRequiredLevel() > previousLevel;
 
-        boolean leveledUp = updatedUser.getCurrentLevel() > previousLevel;
+        if (locked) {
+            // throws 403 forbidden rather than 401 unauthorized (rolls back the user_lessons row)
+            throw new LessonLockedException("You don't have permission to access this lesson yet");
+        }
 
-        // check if the user has earned any rewards based on lesson completion
-        List<RewardResponseDTO> newRewards = rewardService.checkAndAwardRewards(updatedUser);
+        progressEventPublisher.publish(new LessonCompleted(user.getId(), lesson.getId(), lesson.getXpReward()));
 
-        userLessonRepository.save(lessonComplete);
+        int newTotalXp = previousTotalXp + lesson.getXpReward();
+        int newLevel = levelCurve.levelFor(newTotalXp).level();
+        boolean leveledUp = newLevel > previousLevel;
+
+        List<RewardResponseDTO> newRewards = rewardService.previewCrossedRewards(user, List.of(
+                new RewardService.StatChange(RewardStat.LESSONS_COMPLETED, previousLessonsCompleted, previousLessonsCompleted + 1),
+                new RewardService.StatChange(RewardStat.LEVEL, previousLevel, newLevel),
+                new RewardService.StatChange(RewardStat.TOTAL_XP, previousTotalXp, newTotalXp)
+        ));
 
         // used for modal after lesson completion
         return new CompleteLessonResponseDTO(
                 leveledUp,
-                updatedUser.getCurrentLevel(),
+                newLevel,
                 newRewards,
-                updatedUser.getTotalXp(),
+                newTotalXp,
                 lesson.getXpReward()
         );
     }
 
     public LessonResponseDTO getLessonById(Integer id, User user) {
-        Lesson lesson = lessonRepository.findById(id)
+        Lesson lesson = catalogService.current().findLesson(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Lesson not found with id: " + id));
 
-        List<UserLesson> userCompletedLessonList = userLessonRepository.findByUserOrderByCompletedAtDesc(user);
-        Set<Integer> completedLessonIds = userCompletedLessonList.stream()
-                .map(userLesson -> userLesson.getLesson().getId())
-                .collect(Collectors.toSet());
+        return buildLessonResponse(lesson, completedLessons.isCompleted(user.getId(), lesson.getId()), user);
+    }
 
-        return buildLessonResponse(lesson, completedLessonIds, user);
+    // constraint names come back in vendor format (i.e. H2 upper-cases and qualifies them), so match loosely
+    private static boolean isDuplicateCompletion(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(UserLesson.USER_LESSON_KEY);
     }
 
     // helper method to build a single LessonResponseDTO from a lesson and user context
-    private LessonResponseDTO buildLessonResponse(Lesson lesson, Set<Integer> completedLessonIds, User user) {
-        boolean completed = completedLessonIds.contains(lesson.getId());
+    private LessonResponseDTO buildLessonResponse(Lesson lesson, boolean completed, User user) {
         boolean locked = lesson.getRequiredLevel() > user.getCurrentLevel();
 
         return new LessonResponseDTO(
@@ -1,7 +1,7 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
 import com.github.joshliford.amplifyguitar.dto.response.PracticeGoalResponseDTO;
-import com.github.joshliford.amplifyguitar.repository.PracticeGoalRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,14 +14,15 @@ getAllGoals()
 @Service
 public class PracticeGoalService {
 
-    private final PracticeGoalRepository practiceGoalRepository;
+    // goals are read from the in-memory catalog snapshot (no database round trip)
+    private final CatalogService catalogService;
 
-    public PracticeGoalService(PracticeGoalRepository practiceGoalRepository) {
-        this.practiceGoalRepository = practiceGoalRepository;
+    public PracticeGoalService(CatalogService catalogService) {
+        this.catalogService = catalogService;
     }
 
     public List<PracticeGoalResponseDTO> getAllGoals() {
-        return practiceGoalRepository.findAll()
+        return catalogService.current().getPracticeGoals()
                 .stream()
                 .map(practiceGoal -> new PracticeGoalResponseDTO(
                         practiceGoal.getDurationInMinutes(),
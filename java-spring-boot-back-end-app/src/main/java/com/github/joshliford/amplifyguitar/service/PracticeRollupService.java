@@ -0,0 +1,130 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.model.PracticeSession;
+import com.github.joshliford.amplifyguitar.repository.UserPracticeRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/*
+Core methods:
+recordSession(PracticeSession session, secondsDelta, sessionsDelta, xpDelta) - incremental update when a session is completed
+backfill() - rebuild user_practice_rollup from practice_sessions in parallel chunks of users
+backfillIfStale() - backfill when the rollup doesn't account for every completed session (i.e. right after deploy)
+isReady() - whether readers can use the rollup; until then they read practice_sessions
+*/
+
+@Service
+public class PracticeRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(PracticeRollupService.class);
+
+    private final UserPracticeRollupRepository userPracticeRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+
+    // false until the startup check has confirmed (or made) the rollup complete
+    private volatile boolean ready;
+
+    @Value("${practice.rollup.backfill-chunk-size:500}")
+    private int chunkSize;
+
+    // caps how many chunks (and so pooled connections) the backfill uses at once
+    @Value("${practice.rollup.backfill-parallelism:4}")
+    private int parallelism;
+
+    public PracticeRollupService(UserPracticeRollupRepository userPracticeRollupRepository, TransactionTemplate transactionTemplate, @Qualifier("virtualThreadExecutor") ExecutorService executor) {
+        this.userPracticeRollupRepository = userPracticeRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+    }
+
+    // must run inside the caller's transaction (PracticeSessionService.endPracticeSession) so the session and its
+    // rollup row commit or roll back together
+    public void recordSession(PracticeSession session, int secondsDelta, int sessionsDelta, int xpDelta) {
+        if (secondsDelta == 0 && sessionsDelta == 0 && xpDelta == 0) {
+            return;
+        }
+        userPracticeRollupRepository.increment(
+                session.getUser().getId(),
+                session.getStartedAt().toLocalDate(),
+                secondsDelta,
+                sessionsDelta,
+                xpDelta
+        );
+    }
+
+    // checked on every startup, so a deploy with existing history builds the rollup without anyone flipping a flag;
+    // runs off the startup thread, and readers fall back to practice_sessions until it's done
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        executor.execute(() -> {
+            try {
+                backfillIfStale();
+            } catch (RuntimeException e) {
+                log.error("user_practice_rollup backfill failed; practice stats are read from practice_sessions", e);
+            }
+        });
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // the rollup counts one session per completed session, so differing totals mean history it never saw
+    // (a session ending during the check can also trigger it; the rebuild is idempotent)
+    public boolean backfillIfStale() {
+        long completedSessions = userPracticeRollupRepository.countCompletedSessions();
+        long rolledUpSessions = userPracticeRollupRepository.sumRolledUpSessions();
+        boolean stale = completedSessions != rolledUpSessions;
+        if (stale) {
+            log.info("user_practice_rollup covers {} of {} completed sessions; rebuilding", rolledUpSessions, completedSessions);
+            backfill();
+        }
+        ready = true;
+        return stale;
+    }
+
+    // each chunk deletes and re-inserts its users' rows in one transaction, so a chunk is never half rebuilt
+    // returns the number of users rebuilt
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        List<Integer> userIds = userPracticeRollupRepository.findUserIdsWithCompletedSessions();
+
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += chunkSize) {
+            List<Integer> chunk = userIds.subList(i, Math.min(i + chunkSize, userIds.size()));
+            chunks.add(CompletableFuture.runAsync(() -> rebuildChunk(chunk, permits), executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        log.info("Rebuilt user_practice_rollup for {} users in {} chunks ({} ms)",
+                userIds.size(), chunks.size(), System.currentTimeMillis() - start);
+        return userIds.size();
+    }
+
+    private void rebuildChunk(List<Integer> userIds, Semaphore permits) {
+        permits.acquireUninterruptibly();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userPracticeRollupRepository.deleteByUserIds(userIds);
+                userPracticeRollupRepository.insertFromSessions(userIds);
+            });
+        } finally {
+            permits.release();
+        }
+    }
+
+}
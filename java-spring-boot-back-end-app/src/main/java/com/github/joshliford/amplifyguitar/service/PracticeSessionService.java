@@ -1,38 +1,69 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.GoalPracticeStatsDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PeriodPracticeStatsDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionPageDTO;
 import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeStatsDTO;
+import com.github.joshliford.amplifyguitar.exception.InvalidRequestException;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.exception.UnauthorizedAccessException;
 import com.github.joshliford.amplifyguitar.model.PracticeGoal;
 import com.github.joshliford.amplifyguitar.model.PracticeSession;
 import com.github.joshliford.amplifyguitar.model.User;
-import com.github.joshliford.amplifyguitar.repository.PracticeGoalRepository;
+import com.github.joshliford.amplifyguitar.progress.PracticeSessionEnded;
+import com.github.joshliford.amplifyguitar.progress.ProgressEventPublisher;
 import com.github.joshliford.amplifyguitar.repository.PracticeSessionRepository;
+import com.github.joshliford.amplifyguitar.repository.PracticeSessionRepository.PracticeDay;
+import com.github.joshliford.amplifyguitar.model.UserPracticeRollup;
+import com.github.joshliford.amplifyguitar.repository.UserPracticeRollupRepository;
+import com.github.joshliford.amplifyguitar.repository.UserPracticeRollupRepository.PracticeTotals;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
+import java.time.temporal.WeekFields;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /*
 Core methods:
 startPracticeSession(User user, practiceGoal goal)
 endPracticeSession(Integer sessionId)
-getPracticeSessions(User user)
+getPracticeSessions(User user, String cursor, Integer size, LocalDate from, LocalDate to, Integer goalId)
+getTotalPracticeTime(User user)
+getPracticeStats(User user)
 */
 
 @Service
 public class PracticeSessionService {
 
-    private final ProgressService progressService;
-    private final PracticeGoalRepository practiceGoalRepository;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // number of ISO weeks / calendar months (including the current one) returned by getPracticeStats
+    public static final int STATS_WEEKS = 12;
+    public static final int STATS_MONTHS = 12;
+
+    private final ProgressEventPublisher progressEventPublisher;
+    private final CatalogService catalogService;
     private final PracticeSessionRepository practiceSessionRepository;
+    private final UserPracticeRollupRepository userPracticeRollupRepository;
+    private final PracticeRollupService practiceRollupService;
 
-    public PracticeSessionService(PracticeSessionRepository practiceSessionRepository, PracticeGoalRepository practiceGoalRepository, ProgressService progressService) {
+    public PracticeSessionService(PracticeSessionRepository practiceSessionRepository, CatalogService catalogService, ProgressEventPublisher progressEventPublisher, UserPracticeRollupRepository userPracticeRollupRepository, PracticeRollupService practiceRollupService) {
         this.practiceSessionRepository = practiceSessionRepository;
-        this.practiceGoalRepository = practiceGoalRepository;
-        this.progressService = progressService;
+        this.catalogService = catalogService;
+        this.progressEventPublisher = progressEventPublisher;
+        this.userPracticeRollupRepository = userPracticeRollupRepository;
+        this.practiceRollupService = practiceRollupService;
     }
 
     public PracticeSessionResponseDTO startPracticeSession(User user, Integer goalId) {
@@ -49,7 +80,7 @@ public class PracticeSessionService {
             return buildSessionResponse(savedSession);
         }
 
-        PracticeGoal goal = practiceGoalRepository.findById(goalId)
+        PracticeGoal goal = catalogService.current().findPracticeGoal(goalId)
                 .orElseThrow(() -> new ResourceNotFoundException("Practice goal not found with id: " + goalId));
 
         newPracticeSession.setGoal(goal);
@@ -58,8 +89,10 @@ public class PracticeSessionService {
         return buildSessionResponse(newPracticeSession);
     }
 
+    // transactional so the session, its progress event (outbox row) and the user_practice_rollup row are committed together
+    @Transactional
     public PracticeSessionResponseDTO endPracticeSession(User user, Integer sessionId, String notes, Integer durationInSeconds) {
-        PracticeSession session = practiceSessionRepository.findById(sessionId)
+        PracticeSession session = practiceSessionRepository.findWithGoalById(sessionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Practice session not found with id: " + sessionId));
 
 
@@ -67,6 +100,11 @@ public class PracticeSessionService {
             throw new UnauthorizedAccessException("You do not have access to modify this record");
         }
 
+        // remember what this session already contributed to the rollup in case it is being ended again
+        boolean wasCompleted = session.isCompleted();
+        int previousSeconds = wasCompleted && session.getDurationInSeconds() != null ? session.getDurationInSeconds() : 0;
+        int previousXp = wasCompleted && session.getXpEarned() != null ? session.getXpEarned() : 0;
+
         session.setEndedAt(LocalDateTime.now());
 
         PracticeGoal sessionGoal = session.getGoal();
@@ -80,41 +118,177 @@ public class PracticeSessionService {
             // cast sessionDuration to int to match Entity data type
             session.setDurationInSeconds((int) practiceSessionDuration);
             PracticeSession savedSession = practiceSessionRepository.save(session);
+            updateRollup(savedSession, wasCompleted, previousSeconds, previousXp);
             return buildSessionResponse(savedSession);
         }
 
         int practiceGoalDurationInSeconds = session.getGoal().getDurationInMinutes() * 60;
 
         // earning XP is all or nothing based on goal duration requirements
-        if (practiceSessionDuration < practiceGoalDurationInSeconds) {
-            session.setXpEarned(0);
-        } else if (practiceSessionDuration >= practiceGoalDurationInSeconds) {
-            session.setXpEarned(sessionGoal.getXpReward());
-            progressService.addXp(session.getUser().getId(), sessionGoal.getXpReward());
-        }
+        boolean goalMet = practiceSessionDuration >= practiceGoalDurationInSeconds;
+        session.setXpEarned(goalMet ? sessionGoal.getXpReward() : 0);
 
         session.setDurationInSeconds((int) practiceSessionDuration);
         session.setCompleted(true);
         session.setNotes(notes);
 
         practiceSessionRepository.save(session);
+        updateRollup(session, wasCompleted, previousSeconds, previousXp);
+
+        // XP is applied after commit by ProgressEventPipeline; only what this end adds on top of a previous end
+        // of the same session is awarded, so the user's total matches the sessions' xpEarned
+        int xpAwarded = session.getXpEarned() - previousXp;
+        if (xpAwarded > 0) {
+            progressEventPublisher.publish(new PracticeSessionEnded(user.getId(), session.getId(), xpAwarded));
+        }
 
         return buildSessionResponse(session);
     }
 
-    public List<PracticeSessionResponseDTO> getPracticeSessions(User user) {
-        // use custom query from PracticeSessionRepository
-        List<PracticeSession> sessions = practiceSessionRepository.findByUserOrderByStartedAtDesc(user);
-        return sessions.stream()
+    // keyset pagination: each page continues strictly after the (startedAt, id) of the previous page's last session,
+    // so the cost of a page stays the same no matter how deep into the history it is
+    // from/to are inclusive dates; goalId limits the page to sessions for that goal
+    public PracticeSessionPageDTO getPracticeSessions(User user, String cursor, Integer size, LocalDate from, LocalDate to, Integer goalId) {
+        int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+
+        Cursor position = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+
+        // fetch one extra row to know whether another page exists
+        List<PracticeSession> sessions = practiceSessionRepository.findPage(
+                user,
+                goalId,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                position != null ? position.startedAt() : null,
+                position != null ? position.id() : null,
+                Limit.of(pageSize + 1)
+        );
+
+        boolean hasMore = sessions.size() > pageSize;
+        List<PracticeSession> page = hasMore ? sessions.subList(0, pageSize) : sessions;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        List<PracticeSessionResponseDTO> response = page.stream()
                 .map(practiceSession -> buildSessionResponse(practiceSession))
                 .collect(Collectors.toList());
+        return new PracticeSessionPageDTO(nextCursor, response);
     }
 
+    // summed from the per-day rollup rows; no session rows are read
     public Integer getTotalPracticeTime(User user) {
-        return getPracticeSessions(user).stream()
-                .filter(session -> session.isCompleted())
-                .mapToInt(session -> session.getDurationInSeconds() != null ? session.getDurationInSeconds() : 0)
-                .sum();
+        return Math.toIntExact(practiceTotals(user).getTotalSeconds());
+    }
+
+    // totals, weeks and months come from user_practice_rollup; only the per-goal breakdown reads practice_sessions
+    // until the rollup has been checked/backfilled after startup, all of it comes from practice_sessions
+    public PracticeStatsDTO getPracticeStats(User user) {
+        PracticeTotals totals = practiceTotals(user);
+        long totalSeconds = totals.getTotalSeconds();
+        long sessionCount = totals.getSessionCount();
+        long averageSeconds = sessionCount > 0 ? totalSeconds / sessionCount : 0;
+
+        List<GoalPracticeStatsDTO> goals = practiceSessionRepository.findPracticeTotalsByGoal(user);
+
+        // one query returns the rollup days covering both windows; roll them up into weeks and months here
+        LocalDate today = LocalDate.now();
+        LocalDate firstWeek = today.with(WeekFields.ISO.dayOfWeek(), 1).minusWeeks(STATS_WEEKS - 1);
+        YearMonth firstMonth = YearMonth.from(today).minusMonths(STATS_MONTHS - 1);
+        LocalDate from = firstWeek.isBefore(firstMonth.atDay(1)) ? firstWeek : firstMonth.atDay(1);
+
+        // pre-fill every period so charts get a continuous series (zeros for weeks/months without practice)
+        Map<String, long[]> weekly = new LinkedHashMap<>();
+        for (int i = 0; i < STATS_WEEKS; i++) {
+            weekly.put(isoWeek(firstWeek.plusWeeks(i)), new long[2]);
+        }
+        Map<String, long[]> monthly = new LinkedHashMap<>();
+        for (int i = 0; i < STATS_MONTHS; i++) {
+            monthly.put(firstMonth.plusMonths(i).toString(), new long[2]);
+        }
+
+        if (practiceRollupService.isReady()) {
+            for (UserPracticeRollup day : userPracticeRollupRepository.findByUserAndPracticeDateGreaterThanEqualOrderByPracticeDateAsc(user, from)) {
+                addTo(weekly, monthly, day.getPracticeDate(), day.getSessions(), day.getSecondsPracticed());
+            }
+        } else {
+            for (PracticeDay day : practiceSessionRepository.findPracticeDays(user, from.atStartOfDay())) {
+                addTo(weekly, monthly, day.getPracticeDate(), day.getSessions(), day.getSecondsPracticed());
+            }
+        }
+
+        return new PracticeStatsDTO(
+                averageSeconds,
+                goals,
+                toPeriodStats(monthly),
+                sessionCount,
+                totalSeconds,
+                toPeriodStats(weekly)
+        );
+    }
+
+    // i.e. 2026-W07 (ISO week-based year, so the last days of December can belong to week 1 of the next year)
+    private String isoWeek(LocalDate date) {
+        return String.format("%d-W%02d", date.get(WeekFields.ISO.weekBasedYear()), date.get(WeekFields.ISO.weekOfWeekBasedYear()));
+    }
+
+    private PracticeTotals practiceTotals(User user) {
+        return practiceRollupService.isReady()
+                ? userPracticeRollupRepository.findPracticeTotals(user)
+                : practiceSessionRepository.findPracticeTotals(user);
+    }
+
+    // adds one day to its week and month
+    private void addTo(Map<String, long[]> weekly, Map<String, long[]> monthly, LocalDate date, long sessions, long seconds) {
+        addTo(weekly.get(isoWeek(date)), sessions, seconds);
+        addTo(monthly.get(YearMonth.from(date).toString()), sessions, seconds);
+    }
+
+    // totals[0] = sessions, totals[1] = seconds; days outside the window have no bucket and are skipped
+    private void addTo(long[] totals, long sessions, long seconds) {
+        if (totals != null) {
+            totals[0] += sessions;
+            totals[1] += seconds;
+        }
+    }
+
+    // apply only the difference from what the session previously contributed (a re-ended session isn't counted twice)
+    private void updateRollup(PracticeSession session, boolean wasCompleted, int previousSeconds, int previousXp) {
+        int seconds = session.getDurationInSeconds() != null ? session.getDurationInSeconds() : 0;
+        int xp = session.getXpEarned() != null ? session.getXpEarned() : 0;
+        practiceRollupService.recordSession(session, seconds - previousSeconds, wasCompleted ? 0 : 1, xp - previousXp);
+    }
+
+    private List<PeriodPracticeStatsDTO> toPeriodStats(Map<String, long[]> periods) {
+        return periods.entrySet().stream()
+                .map(period -> new PeriodPracticeStatsDTO(period.getKey(), period.getValue()[0], period.getValue()[1]))
+                .collect(Collectors.toList());
+    }
+
+    // cursor is opaque to clients: base64url("startedAt|id")
+    private String encodeCursor(PracticeSession session) {
+        String position = session.getStartedAt() + "|" + session.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // a malformed or tampered cursor is a 400, not a 500
+    private Cursor decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (position.length != 2) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return new Cursor(LocalDateTime.parse(position[0]), Integer.valueOf(position[1]));
+        } catch (IllegalArgumentException | DateTimeParseException exception) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    private record Cursor(LocalDateTime startedAt, Integer id) {
     }
 
     private PracticeSessionResponseDTO buildSessionResponse(PracticeSession session) {
@@ -0,0 +1,165 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.model.ProgressEvent;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LessonCompleted;
+import com.github.joshliford.amplifyguitar.progress.PracticeSessionEnded;
+import com.github.joshliford.amplifyguitar.repository.ProgressEventRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/*
+Core methods:
+schedule(Integer userId) - queue a drain of the user's pending progress events
+flush(Integer userId) - apply the user's pending events on the calling thread
+sweep() - re-schedule users whose events were left behind (crash, failed drain)
+*/
+
+// applies progress events (outbox rows in progress_events) off the request thread
+// events are ordered per user: at most one drain runs for a user at a time and it applies the user's events in id order
+// a drain coalesces everything pending for the user into one user UPDATE (XP, level, title and lesson count) and one
+// reward evaluation, so a burst of completions costs one user write instead of one per event
+@Service
+public class ProgressEventPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressEventPipeline.class);
+
+    private final ProgressEventRepository progressEventRepository;
+    private final UserRepository userRepository;
+    private final ProgressService progressService;
+    private final RewardService rewardService;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor executor;
+
+    // user ID -> whether more events arrived while the user's drain was running (a key exists while a drain is queued/running)
+    private final ConcurrentHashMap<Integer, Boolean> lanes = new ConcurrentHashMap<>();
+
+    // caps how many drains (and so pooled connections) run at once
+    private final Semaphore permits;
+
+    // only events older than this are picked up by the sweep; newer ones are still on their way through schedule()
+    @Value("${progress.events.sweep-grace-seconds:30}")
+    private long sweepGraceSeconds;
+
+    public ProgressEventPipeline(ProgressEventRepository progressEventRepository, UserRepository userRepository, ProgressService progressService, RewardService rewardService, TransactionTemplate transactionTemplate,
+                                 @Qualifier("progressEventExecutor") Executor executor,
+                                 @Value("${progress.events.parallelism:8}") int parallelism) {
+        this.progressEventRepository = progressEventRepository;
+        this.userRepository = userRepository;
+        this.progressService = progressService;
+        this.rewardService = rewardService;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.permits = new Semaphore(Math.max(1, parallelism));
+    }
+
+    // after commit only: before that the outbox row isn't visible to the drain (and may still roll back)
+    @TransactionalEventListener
+    public void onLessonCompleted(LessonCompleted event) {
+        schedule(event.userId());
+    }
+
+    @TransactionalEventListener
+    public void onPracticeSessionEnded(PracticeSessionEnded event) {
+        schedule(event.userId());
+    }
+
+    public void schedule(Integer userId) {
+        // only the call that creates the lane submits a drain; calls during a drain just flag it to run again
+        if (lanes.put(userId, Boolean.TRUE) == null) {
+            executor.execute(() -> drainLane(userId));
+        }
+    }
+
+    // synchronous drain for callers that need the user's progress to be current (i.e. tests, admin tooling)
+    public void flush(Integer userId) {
+        transactionTemplate.executeWithoutResult(status -> applyPending(userId));
+    }
+
+    // startup: pick up everything a previous run left behind
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        progressEventRepository.findUserIdsWithEventsBefore(LocalDateTime.now()).forEach(this::schedule);
+    }
+
+    @Scheduled(fixedDelayString = "${progress.events.sweep-interval-ms:60000}", initialDelayString = "${progress.events.sweep-interval-ms:60000}")
+    public void sweep() {
+        progressEventRepository.findUserIdsWithEventsBefore(LocalDateTime.now().minusSeconds(sweepGraceSeconds)).forEach(this::schedule);
+    }
+
+    private void drainLane(Integer userId) {
+        permits.acquireUninterruptibly();
+        try {
+            while (true) {
+                lanes.put(userId, Boolean.FALSE);
+                try {
+                    flush(userId);
+                } catch (RuntimeException e) {
+                    // events stay in the outbox; the sweep retries them
+                    log.warn("Failed to apply progress events for user {}", userId, e);
+                    lanes.remove(userId);
+                    return;
+                }
+                // done unless schedule() flagged new events while this drain ran
+                if (lanes.remove(userId, Boolean.FALSE)) {
+                    return;
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    // the row lock is taken before the events are read, so a concurrent drain (another thread or instance) waits
+    // and then finds the events already applied and deleted
+    private void applyPending(Integer userId) {
+        Optional<User> locked = userRepository.findByIdForUpdate(userId);
+        List<ProgressEvent> events = progressEventRepository.findByUserIdOrderByIdAsc(userId);
+        if (events.isEmpty()) {
+            return;
+        }
+        if (locked.isEmpty()) {
+            // user was deleted with events still pending
+            progressEventRepository.deleteAllInBatch(events);
+            return;
+        }
+
+        User before = locked.get();
+        // read before applyProgress updates the same instance
+        int previousLessons = before.getLessonsCompleted() != null ? before.getLessonsCompleted() : 0;
+        int previousLevel = before.getCurrentLevel();
+        int previousTotalXp = before.getTotalXp() != null ? before.getTotalXp() : 0;
+
+        int xp = events.stream().mapToInt(ProgressEvent::getXp).sum();
+        int lessons = events.stream().mapToInt(ProgressEvent::getLessonsCompleted).sum();
+
+        // one user write for the whole batch
+        User after = progressService.applyProgress(before, xp, lessons);
+
+        rewardService.awardCrossedRewards(after, List.of(
+                new RewardService.StatChange(RewardStat.LESSONS_COMPLETED, previousLessons, previousLessons + lessons),
+                new RewardService.StatChange(RewardStat.LEVEL, previousLevel, after.getCurrentLevel()),
+                new RewardService.StatChange(RewardStat.TOTAL_XP, previousTotalXp, after.getTotalXp())
+        ));
+
+        progressEventRepository.deleteAllInBatch(events);
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.model.BatchJobCheckpoint;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.repository.BatchJobCheckpointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/*
+Core method:
+recompute() - re-derive totalXp, level, in-level XP, title and lessonsCompleted for every user from user_lessons and
+              practice_sessions (less still-pending progress events), in keyset-ordered chunks; resumes an unfinished run
+*/
+
+// login streaks are out of scope: there is no login history to re-derive them from, so current_streak and
+// longest_streak are left to the login path (ProgressService.updateStreak) and never written here
+
+@Service
+public class ProgressRecomputeService {
+
+    static final String JOB_NAME = "progress-recompute";
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressRecomputeService.class);
+
+    private static final String COUNT_REMAINING = "SELECT COUNT(*) FROM users WHERE id > ?";
+
+    private static final String NEXT_CHUNK = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    // locks only the chunk's user rows, and only for the chunk's transaction: a concurrent drain either commits
+    // before the history is read below (and is counted) or waits and is applied on top of the recomputed total
+    // the rows are named by id rather than by range, so no gap locks are taken and sign-ups never wait on a chunk
+    private static final String LOCK_CHUNK = "SELECT id FROM users WHERE id IN (%s) FOR UPDATE";
+
+    // history already contains completions whose outbox events (progress_events) haven't been drained yet; those are
+    // left out here because the drain still adds them (and awards their rewards) on top of the recomputed values
+    private static final String CHUNK_HISTORY = """
+            SELECT u.id,
+                   COALESCE((SELECT SUM(ul.xp_earned) FROM user_lessons ul WHERE ul.user_id = u.id), 0) AS lesson_xp,
+                   (SELECT COUNT(*) FROM user_lessons ul WHERE ul.user_id = u.id) AS lessons_completed,
+                   COALESCE((SELECT SUM(ps.xp_earned) FROM practice_sessions ps WHERE ps.user_id = u.id AND ps.completed = TRUE), 0) AS practice_xp,
+                   COALESCE((SELECT SUM(pe.xp) FROM progress_events pe WHERE pe.user_id = u.id), 0) AS pending_xp,
+                   COALESCE((SELECT SUM(pe.lessons_completed) FROM progress_events pe WHERE pe.user_id = u.id), 0) AS pending_lessons
+            FROM users u
+            WHERE u.id IN (%s)
+            """;
+
+    private static final String UPDATE_USER = """
+            UPDATE users SET
+                total_xp = ?,
+                current_level = ?,
+                current_xp = ?,
+                current_title = ?,
+                lessons_completed = ?,
+                updated_at = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BatchJobCheckpointRepository batchJobCheckpointRepository;
+    private final LevelCurve levelCurve;
+    private final ExecutorService executor;
+
+    @Value("${progress.recompute.on-startup:false}")
+    private boolean recomputeOnStartup;
+
+    // pick up after the last fully processed chunk of an unfinished run instead of starting over
+    @Value("${progress.recompute.resume:true}")
+    private boolean resume;
+
+    @Value("${progress.recompute.chunk-size:1000}")
+    private int chunkSize;
+
+    // caps how many chunks (and so pooled connections and locked row ranges) the job uses at once
+    @Value("${progress.recompute.parallelism:4}")
+    private int parallelism;
+
+    @Value("${progress.recompute.log-interval-seconds:10}")
+    private int logIntervalSeconds;
+
+    public ProgressRecomputeService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, BatchJobCheckpointRepository batchJobCheckpointRepository, LevelCurve levelCurve, @Qualifier("virtualThreadExecutor") ExecutorService executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchJobCheckpointRepository = batchJobCheckpointRepository;
+        this.levelCurve = levelCurve;
+        this.executor = executor;
+    }
+
+    // runs off the startup thread; the app serves requests meanwhile and each chunk only locks its own users briefly
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!recomputeOnStartup) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                recompute();
+            } catch (RuntimeException e) {
+                log.error("Startup progress recompute failed", e);
+            }
+        });
+    }
+
+    // returns the number of users recomputed by this run (not counting ones done by an earlier, resumed run)
+    public long recompute() {
+        BatchJobCheckpoint checkpoint = resume ? batchJobCheckpointRepository.findById(JOB_NAME).orElse(null) : null;
+        int afterId = checkpoint != null ? checkpoint.getLastId() : 0;
+        long previouslyProcessed = checkpoint != null ? checkpoint.getProcessed() : 0;
+        if (checkpoint != null) {
+            log.info("Resuming progress recompute after user {} ({} users already done)", afterId, previouslyProcessed);
+        }
+
+        Long remaining = jdbcTemplate.queryForObject(COUNT_REMAINING, Long.class, afterId);
+        Progress progress = new Progress(afterId, previouslyProcessed, remaining != null ? remaining : 0);
+
+        // the next chunk is only read once a permit frees up, so memory stays bounded on any table size
+        Semaphore permits = new Semaphore(Math.max(1, parallelism));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        int cursor = afterId;
+        for (int sequence = 0; !progress.isFailed(); sequence++) {
+            permits.acquireUninterruptibly();
+            List<Integer> ids = jdbcTemplate.queryForList(NEXT_CHUNK, Integer.class, cursor, chunkSize);
+            if (ids.isEmpty()) {
+                permits.release();
+                break;
+            }
+            int firstId = ids.getFirst();
+            int lastId = ids.getLast();
+            int chunkSequence = sequence;
+            cursor = lastId;
+            chunks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    progress.chunkDone(chunkSequence, lastId, recomputeChunk(ids));
+                } catch (RuntimeException e) {
+                    progress.chunkFailed(chunkSequence, firstId, lastId, e);
+                } finally {
+                    permits.release();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+
+        if (progress.isFailed()) {
+            throw new IllegalStateException("Progress recompute failed; the next run resumes after user " + progress.getWatermark());
+        }
+        batchJobCheckpointRepository.deleteById(JOB_NAME);
+        log.info("Progress recompute finished: {} users in {} chunks ({} ms)",
+                progress.getProcessed(), chunks.size(), progress.elapsedMillis());
+        return progress.getProcessed();
+    }
+
+    // one short transaction per chunk: read the history, derive the progress fields in Java, write back as one JDBC batch
+    private int recomputeChunk(List<Integer> ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        Object[] args = ids.toArray();
+        Integer updated = transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForList(LOCK_CHUNK.formatted(placeholders), Integer.class, args);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = jdbcTemplate.query(CHUNK_HISTORY.formatted(placeholders), (rs, rowNum) -> {
+                int totalXp = rs.getInt("lesson_xp") + rs.getInt("practice_xp") - rs.getInt("pending_xp");
+                int lessonsCompleted = rs.getInt("lessons_completed") - rs.getInt("pending_lessons");
+                LevelCurve.Level level = levelCurve.levelFor(totalXp);
+                return new Object[]{totalXp, level.level(), level.currentXp(), level.title(), lessonsCompleted, now, rs.getInt("id")};
+            }, args);
+            jdbcTemplate.batchUpdate(UPDATE_USER, rows);
+            return rows.size();
+        });
+        return updated != null ? updated : 0;
+    }
+
+    // chunks finish out of order; the checkpoint only advances over a contiguous run of finished chunks so a resumed
+    // run never skips a chunk that was still in flight (finished chunks past the watermark are simply redone)
+    private class Progress {
+
+        private final long total;
+        private final long startNanos = System.nanoTime();
+        private final TreeMap<Integer, long[]> finishedAhead = new TreeMap<>();
+        private int nextSequence;
+        private int watermark;
+        private long processed;
+        private final long processedBefore;
+        private long lastLogNanos = startNanos;
+        private volatile boolean failed;
+
+        Progress(int watermark, long processedBefore, long remaining) {
+            this.watermark = watermark;
+            this.processedBefore = processedBefore;
+            this.total = remaining;
+        }
+
+        synchronized void chunkDone(int sequence, int lastId, int count) {
+            finishedAhead.put(sequence, new long[]{lastId, count});
+            boolean advanced = false;
+            while (finishedAhead.containsKey(nextSequence)) {
+                long[] chunk = finishedAhead.remove(nextSequence++);
+                watermark = (int) chunk[0];
+                processed += chunk[1];
+                advanced = true;
+            }
+            if (advanced) {
+                batchJobCheckpointRepository.save(new BatchJobCheckpoint(JOB_NAME, watermark, processedBefore + processed, LocalDateTime.now()));
+                logProgress();
+            }
+        }
+
+        synchronized void chunkFailed(int sequence, int firstId, int lastId, RuntimeException e) {
+            failed = true;
+            log.error("Progress recompute chunk {} (users {}-{}) failed", sequence, firstId, lastId, e);
+        }
+
+        private void logProgress() {
+            long now = System.nanoTime();
+            if (now - lastLogNanos < logIntervalSeconds * 1_000_000_000L) {
+                return;
+            }
+            lastLogNanos = now;
+            double seconds = (now - startNanos) / 1e9;
+            double rate = processed / Math.max(seconds, 0.001);
+            long etaSeconds = rate > 0 ? (long) ((total - processed) / rate) : -1;
+            log.info("Progress recompute: {}/{} users ({} per second, ~{} s left, checkpoint at user {})",
+                    processed, total, (long) rate, etaSeconds, watermark);
+        }
+
+        boolean isFailed() {
+            return failed;
+        }
+
+        synchronized int getWatermark() {
+            return watermark;
+        }
+
+        synchronized long getProcessed() {
+            return processed;
+        }
+
+        long elapsedMillis() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+    }
+
+}
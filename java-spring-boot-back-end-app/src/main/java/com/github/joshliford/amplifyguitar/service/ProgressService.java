@@ -1,80 +1,80 @@
 package com.github.joshliford.amplifyguitar.service;
 
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
 import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
 import com.github.joshliford.amplifyguitar.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 /*
 Core methods:
-addXp(Integer id, Integer xpAmount)
-updateStreak(User user)
-calculateXpNeededForLevel(Integer level)
-getTitle(Integer level)
+applyProgress(User locked, int xpAmount, int lessonsCompleted) - XP and lesson count on a row-locked user in one UPDATE
+updateStreak(User user) - login streak on the first login of the day, plus any streak rewards it reaches
 */
 
 @Service
 public class ProgressService {
 
     private final UserRepository userRepository;
+    private final LevelCurve levelCurve;
+    private final RewardService rewardService;
 
-    public ProgressService(UserRepository userRepository) {
+    public ProgressService(UserRepository userRepository, LevelCurve levelCurve, RewardService rewardService) {
         this.userRepository = userRepository;
+        this.levelCurve = levelCurve;
+        this.rewardService = rewardService;
     }
 
-    public User addXp(Integer id, Integer xpAmount) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
-
-        if (xpAmount < 0) {
+    // for callers that already hold the user's row lock (findByIdForUpdate), so nothing can change the row in between:
+    // the new level state is computed here and written with one UPDATE of only the progress columns, instead of an XP
+    // UPDATE, a re-read, a title UPDATE on level up and a lesson count UPDATE
+    // the UPDATE still adds XP and lessons atomically and only applies if total_xp is what the caller read, so a write
+    // that bypassed the lock fails the call (the drain leaves its events for the sweep) instead of losing XP
+    // the returned user is the caller's instance (detached by the update) carrying the written values
+    @Transactional
+    public User applyProgress(User locked, int xpAmount, int lessonsCompleted) {
+        if (xpAmount < 0 || lessonsCompleted < 0) {
             throw new IllegalArgumentException("XP amount must be positive");
         }
 
-        // get current values
-        Integer currentXp = user.getCurrentXp() != null ? user.getCurrentXp() : 0;
-        Integer currentTotalXp = user.getTotalXp() != null ? user.getTotalXp() : 0;
-        Integer currentLevel = user.getCurrentLevel() != null ? user.getCurrentLevel() : 1;
-
-        // add xp amount to both totals
-        user.setTotalXp(currentTotalXp + xpAmount);
-        Integer newCurrentXp = currentXp + xpAmount;
-
-        // check for user level up
-        Integer xpNeededForNextLevel = calculateXpNeededForLevel(currentLevel + 1);
-
-        // handles multi-level jumps from a large XP reward
-        while (newCurrentXp >= xpNeededForNextLevel ) {
-            currentLevel++;
-            newCurrentXp -= xpNeededForNextLevel;
-            xpNeededForNextLevel = calculateXpNeededForLevel(currentLevel + 1);
+        int previousTotalXp = locked.getTotalXp() != null ? locked.getTotalXp() : 0;
+        int totalXp = previousTotalXp + xpAmount;
+        int totalLessons = (locked.getLessonsCompleted() != null ? locked.getLessonsCompleted() : 0) + lessonsCompleted;
+        LevelCurve.Level level = levelCurve.levelFor(totalXp);
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = userRepository.updateProgress(locked.getId(), previousTotalXp, xpAmount, lessonsCompleted, level.level(), level.currentXp(), level.title(), now);
+        if (updated == 0) {
+            if (!userRepository.existsById(locked.getId())) {
+                throw new ResourceNotFoundException("User not found with ID: " + locked.getId());
+            }
+            throw new IllegalStateException("XP of user " + locked.getId() + " changed while its progress was being applied");
         }
 
-        user.setCurrentTitle(getTitle(currentLevel));
-        user.setCurrentXp(newCurrentXp);
-        user.setCurrentLevel(currentLevel);
-        user.setUpdatedAt(LocalDateTime.now());
-
-        return userRepository.save(user);
+        locked.setTotalXp(totalXp);
+        locked.setCurrentLevel(level.level());
+        locked.setCurrentXp(level.currentXp());
+        locked.setCurrentTitle(level.title());
+        locked.setLessonsCompleted(totalLessons);
+        locked.setUpdatedAt(now);
+        return locked;
     }
 
+    // writes only the login streak columns, and only on the first login of a day (same-day logins write nothing)
+    @Transactional
     public User updateStreak(User user) {
 
         LocalDate today = LocalDate.now();
         LocalDate lastLoginDate = user.getLastLoginDate();
         Integer currentStreak = user.getCurrentStreak() != null ? user.getCurrentStreak() : 0;
-
-        // user first login
-        if (lastLoginDate == null) {
-            user.setLastLoginDate(today);
-            user.setCurrentStreak(1);
-            user.setLongestStreak(1);
-            user.setUpdatedAt(LocalDateTime.now());
-            return userRepository.save(user);
-        }
+        Integer longestStreak = user.getLongestStreak() != null ? user.getLongestStreak() : 0;
 
         // streak logic:
         // null: first login = set to 1
@@ -82,45 +82,28 @@ public class ProgressService {
         // 1 day: consecutive login = increment
         // 2+ days: streak broken = reset to 1
 
-        // calculate days between last login and today to determine streak
-        long daysSinceLastLogin = ChronoUnit.DAYS.between(lastLoginDate, today);
-
-        if (daysSinceLastLogin == 1) {
-            user.setCurrentStreak(currentStreak + 1);
-            user.setLastLoginDate(today);
-        } else if (daysSinceLastLogin >= 2) {
-            user.setCurrentStreak(1);
-            user.setLastLoginDate(today);
-        } // daysSinceLastLogin == 0 (today so no change in streak)
-
-        // set longest streak (if current streak > longest streak)
-        if (user.getCurrentStreak() > user.getLongestStreak()) {
-            user.setLongestStreak(user.getCurrentStreak());
+        if (lastLoginDate != null && !lastLoginDate.isBefore(today)) {
+            // today so no change in streak
+            return user;
         }
 
-        user.setUpdatedAt(LocalDateTime.now());
-
-        return userRepository.save(user);
-    }
+        // calculate days between last login and today to determine streak
+        int newStreak = lastLoginDate != null && ChronoUnit.DAYS.between(lastLoginDate, today) == 1 ? currentStreak + 1 : 1;
 
-    private Integer calculateXpNeededForLevel(Integer level) {
-        // use simple increment for xp required for next level (i.e. level 1 = 50XP, level 2 = 100XP, level 3 = 150XP, etc.)
-        return 50 + (level * 50);
-    }
+        // set longest streak (if current streak > longest streak)
+        int newLongestStreak = Math.max(newStreak, longestStreak);
+        LocalDateTime now = LocalDateTime.now();
 
-    private String getTitle(Integer level) {
-        return switch (level) {
-            case 2 -> "Novice";
-            case 3 -> "Apprentice";
-            case 4 -> "Strummer";
-            case 5 -> "Rhythm Player";
-            case 6 -> "Lead Player";
-            case 7 -> "Intermediate";
-            case 8 -> "Advanced";
-            case 9 -> "Expert";
-            case 10 -> "Master";
-            default -> "Beginner";
-        };
+        // 0 rows: a concurrent login already recorded today
+        if (userRepository.recordLogin(user.getId(), today, newStreak, newLongestStreak, now) > 0) {
+            user.setLastLoginDate(today);
+            user.setCurrentStreak(newStreak);
+            user.setLongestStreak(newLongestStreak);
+            user.setUpdatedAt(now);
+            // the streak only changes here, so this is the only place STREAK rewards can be crossed
+            rewardService.awardCrossedRewards(user, List.of(new RewardService.StatChange(RewardStat.STREAK, currentStreak, newStreak)));
+        }
+        return user;
     }
 
 }
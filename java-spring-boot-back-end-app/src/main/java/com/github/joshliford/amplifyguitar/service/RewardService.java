@@ -1,35 +1,62 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.catalog.CatalogSnapshot;
 import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
 import com.github.joshliford.amplifyguitar.model.Reward;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
 import com.github.joshliford.amplifyguitar.model.User;
 import com.github.joshliford.amplifyguitar.model.UserReward;
-import com.github.joshliford.amplifyguitar.repository.RewardRepository;
+import com.github.joshliford.amplifyguitar.progress.RewardRuleIndex;
 import com.github.joshliford.amplifyguitar.repository.UserRewardRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /*
 Core methods:
 getEarnedRewards(User user)
 getAllRewards()
-checkAndAwardRewards(User user)
+checkAndAwardRewards(User user) - evaluate every rule against the user's current stats
+awardCrossedRewards(User user, List<StatChange> changes) - evaluate only the rules a stat change crossed
+previewCrossedRewards(User user, List<StatChange> changes) - the rewards a change would award, without awarding them
 */
 
 @Service
 public class RewardService {
 
-    private final RewardRepository rewardRepository;
+    private final CatalogService catalogService;
     private final UserRewardRepository userRewardRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public RewardService(RewardRepository rewardRepository, UserRewardRepository userRewardRepository) {
-        this.rewardRepository = rewardRepository;
+    // earned rewards per user as a bitset over the snapshot's reward bit positions
+    // entries are replaced, never modified, so readers never see a half-updated set
+    private final Cache<Integer, EarnedRewards> earnedRewards;
+
+    public RewardService(CatalogService catalogService, UserRewardRepository userRewardRepository, JdbcTemplate jdbcTemplate,
+                         @Value("${rewards.earned-cache.max-size:10000}") long maxSize,
+                         @Value("${rewards.earned-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.catalogService = catalogService;
         this.userRewardRepository = userRewardRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.earnedRewards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
     }
 
     public List<RewardResponseDTO> getEarnedRewards(User user) {
@@ -46,7 +73,7 @@ public class RewardService {
     }
 
     public List<RewardResponseDTO> getAllRewards() {
-        List<Reward> rewards = rewardRepository.findAll();
+        List<Reward> rewards = catalogService.current().getRewards();
         return rewards.stream()
                 .map(reward -> new RewardResponseDTO(
                         reward.getDescription(),
@@ -58,46 +85,181 @@ public class RewardService {
                 .toList();
     }
 
+    // full evaluation (POST /api/rewards/check): catches rewards added after the user's stats already passed them
+    @Transactional
     public List<RewardResponseDTO> checkAndAwardRewards(User user) {
-        List<Reward> allRewards = rewardRepository.findAll();
-        List<UserReward> userRewards = userRewardRepository.findByUserId(user.getId());
-        // transform user earned rewards into a set of reward IDs; prevents duplicate reward inserts
-        Set<Integer> earnedRewardIds = userRewards.stream()
-                .map(userReward -> userReward.getReward().getId())
-                .collect(Collectors.toSet());
-        List<RewardResponseDTO> newRewards = new ArrayList<>();
-        for (Reward reward : allRewards) {
-            // skips rewards the user already earned
-            if (earnedRewardIds.contains(reward.getId())) continue;
-            // reward rules are set here (source of truth for unlock conditions)
-            // checks if the user's stats meet requirements (reward condition)
-            boolean earned = switch (reward.getRewardCondition()) {
-                case LESSON_1 -> user.getLessonsCompleted() >= 1;
-                case LESSON_5 -> user.getLessonsCompleted() >= 5;
-                case LEVEL_2 -> user.getCurrentLevel() >= 2;
-                case LEVEL_5 -> user.getCurrentLevel() >= 5;
-                case LEVEL_10 -> user.getCurrentLevel() >= 10;
-                case STREAK_3 -> user.getCurrentStreak() >= 3;
-                case STREAK_5 -> user.getCurrentStreak() >= 5;
-                case XP_100 -> user.getTotalXp() >= 100;
-                case XP_500 -> user.getTotalXp() >= 500;
-            };
-            // if condition is met save earned reward to the user
-            if (earned) {
-                UserReward userReward = new UserReward(user, reward, LocalDateTime.now());
-                userRewardRepository.save(userReward);
-
-                RewardResponseDTO dto = new RewardResponseDTO(
-                        userReward.getReward().getDescription(),
-                        userReward.getEarnedAt(),
-                        userReward.getReward().getIcon(),
-                        userReward.getReward().getId(),
-                        userReward.getReward().getTitle()
-                );
-                newRewards.add(dto);
+        CatalogSnapshot snapshot = catalogService.current();
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        BitSet reached = new BitSet(rules.getRewards().size());
+        for (RewardStat stat : RewardStat.values()) {
+            rules.collectReached(stat, statValue(user, stat), reached);
+        }
+        return award(user, snapshot, reached);
+    }
+
+    // incremental evaluation after a known change (i.e. a lesson completion): only rules whose threshold lies
+    // between the old and new value are looked at; most changes cross nothing and never touch the database
+    @Transactional
+    public List<RewardResponseDTO> awardCrossedRewards(User user, List<StatChange> changes) {
+        CatalogSnapshot snapshot = catalogService.current();
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        BitSet crossed = new BitSet(rules.getRewards().size());
+        for (StatChange change : changes) {
+            rules.collectCrossed(change.stat(), change.from(), change.to(), crossed);
+        }
+        return award(user, snapshot, crossed);
+    }
+
+    // read-only counterpart of awardCrossedRewards for responses that report a change before it is applied
+    public List<RewardResponseDTO> previewCrossedRewards(User user, List<StatChange> changes) {
+        CatalogSnapshot snapshot = catalogService.current();
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        BitSet crossed = new BitSet(rules.getRewards().size());
+        for (StatChange change : changes) {
+            rules.collectCrossed(change.stat(), change.from(), change.to(), crossed);
+        }
+        if (crossed.isEmpty()) {
+            return List.of();
+        }
+        crossed.andNot(earnedBits(user.getId(), snapshot));
+        return crossed.stream()
+                .mapToObj(rules::reward)
+                .map(reward -> new RewardResponseDTO(
+                        reward.getDescription(),
+                        LocalDateTime.now(),
+                        reward.getIcon(),
+                        reward.getId(),
+                        reward.getTitle()
+                ))
+                .toList();
+    }
+
+    // the user's current value for a stat; a new stat is the only thing that needs a code change here
+    private static int statValue(User user, RewardStat stat) {
+        Integer value = switch (stat) {
+            case LESSONS_COMPLETED -> user.getLessonsCompleted();
+            case LEVEL -> user.getCurrentLevel();
+            case STREAK -> user.getCurrentStreak();
+            case TOTAL_XP -> user.getTotalXp();
+        };
+        return value != null ? value : 0;
+    }
+
+    // candidates the cached bitset already has are skipped without touching the database; anything else is decided
+    // under the user's row lock: the earned rewards are re-read there, so the difference is exactly what this call
+    // inserts (every award path takes the same lock, so no other check can insert in between)
+    private List<RewardResponseDTO> award(User user, CatalogSnapshot snapshot, BitSet candidates) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        EarnedRewards cached = earnedRewards.getIfPresent(user.getId());
+        if (cached != null && cached.version() == snapshot.getVersion()) {
+            BitSet uncached = (BitSet) candidates.clone();
+            uncached.andNot(cached.bits());
+            if (uncached.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        BitSet earned = lockAndLoadEarnedBits(user.getId(), snapshot);
+        BitSet newlyEarned = (BitSet) candidates.clone();
+        newlyEarned.andNot(earned);
+        BitSet updated = (BitSet) earned.clone();
+        updated.or(newlyEarned);
+        cacheAfterCommit(user.getId(), new EarnedRewards(snapshot.getVersion(), updated));
+        if (newlyEarned.isEmpty()) {
+            return List.of();
+        }
+
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        List<Reward> newRewards = newlyEarned.stream().mapToObj(rules::reward).toList();
+        LocalDateTime earnedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        insertUserRewards(user.getId(), newRewards, earnedAt);
+
+        return newRewards.stream()
+                .map(reward -> new RewardResponseDTO(
+                        reward.getDescription(),
+                        earnedAt,
+                        reward.getIcon(),
+                        reward.getId(),
+                        reward.getTitle()
+                ))
+                .toList();
+    }
+
+    // locks the user row for the rest of the transaction (the drain already holds it) and then reads the user's earned
+    // rewards with a locking read, which sees the latest committed rows even where the transaction's snapshot is older
+    private BitSet lockAndLoadEarnedBits(Integer userId, CatalogSnapshot snapshot) {
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        BitSet bits = new BitSet(rules.getRewards().size());
+        jdbcTemplate.queryForList("SELECT id FROM users WHERE id = ? FOR UPDATE", Integer.class, userId);
+        List<Integer> rewardIds = jdbcTemplate.queryForList("SELECT reward_id FROM user_reward WHERE user_id = ? FOR UPDATE", Integer.class, userId);
+        for (Integer rewardId : rewardIds) {
+            int bit = rules.bitOf(rewardId);
+            if (bit >= 0) {
+                bits.set(bit);
             }
         }
-        return newRewards;
+        return bits;
+    }
+
+    // all new rows in one multi-row INSERT; under the row lock none of them can exist yet, so the only error this
+    // tolerates is a duplicate key (a row written by something that bypassed the lock), never an FK or data error
+    private void insertUserRewards(Integer userId, List<Reward> rewards, LocalDateTime earnedAt) {
+        String values = rewards.stream().map(reward -> "(?, ?, ?)").collect(Collectors.joining(", "));
+        Timestamp timestamp = Timestamp.valueOf(earnedAt);
+        List<Object> args = new ArrayList<>();
+        for (Reward reward : rewards) {
+            args.add(userId);
+            args.add(reward.getId());
+            args.add(timestamp);
+        }
+        jdbcTemplate.update("INSERT INTO user_reward (user_id, reward_id, earned_at) VALUES " + values
+                + " ON DUPLICATE KEY UPDATE user_id = user_id", args.toArray());
+    }
+
+    // inside a transaction (i.e. the progress drain) the rows only exist once it commits: caching them earlier would
+    // mark rewards as earned after a rollback, and the incremental path would never cross their threshold again
+    // on rollback the entry is dropped, since a load inside the transaction may have seen its uncommitted rows
+    private void cacheAfterCommit(Integer userId, EarnedRewards entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            earnedRewards.put(userId, entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    earnedRewards.put(userId, entry);
+                } else {
+                    earnedRewards.invalidate(userId);
+                }
+            }
+        });
+    }
+
+    // bit positions belong to one snapshot version, so an entry from an older snapshot is rebuilt
+    private BitSet earnedBits(Integer userId, CatalogSnapshot snapshot) {
+        EarnedRewards cached = earnedRewards.getIfPresent(userId);
+        if (cached != null && cached.version() == snapshot.getVersion()) {
+            return cached.bits();
+        }
+        RewardRuleIndex rules = snapshot.getRewardRules();
+        BitSet bits = new BitSet(rules.getRewards().size());
+        for (Integer rewardId : userRewardRepository.findRewardIdsByUserId(userId)) {
+            int bit = rules.bitOf(rewardId);
+            if (bit >= 0) {
+                bits.set(bit);
+            }
+        }
+        earnedRewards.put(userId, new EarnedRewards(snapshot.getVersion(), bits));
+        return bits;
+    }
+
+    public record StatChange(RewardStat stat, int from, int to) {
+    }
+
+    private record EarnedRewards(long version, BitSet bits) {
     }
 
 }
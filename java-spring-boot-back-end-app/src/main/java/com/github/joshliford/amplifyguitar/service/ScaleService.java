@@ -1,9 +1,10 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.ScaleSummaryDTO;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.Difficulty;
 import com.github.joshliford.amplifyguitar.model.Scale;
-import com.github.joshliford.amplifyguitar.repository.ScaleRepository;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -19,27 +20,29 @@ getTotalScales()
 @Service
 public class ScaleService {
 
-    private final ScaleRepository scaleRepository;
+    // scales are read from the in-memory catalog snapshot (no database round trip)
+    private final CatalogService catalogService;
 
-    public ScaleService(ScaleRepository scaleRepository) {
-        this.scaleRepository = scaleRepository;
+    public ScaleService(CatalogService catalogService) {
+        this.catalogService = catalogService;
     }
 
-    public List<Scale> getAllScales() {
-        return scaleRepository.findAllByOrderByTitleAsc();
+    // list views only need title, difficulty and image; the full scale comes from getScaleById
+    public List<ScaleSummaryDTO> getAllScales() {
+        return catalogService.current().getScaleSummaries();
     }
 
-    public List<Scale> getAllScalesByDifficulty(Difficulty difficulty) {
-        return scaleRepository.findByDifficultyOrderByTitleAsc(difficulty);
+    public List<ScaleSummaryDTO> getAllScalesByDifficulty(Difficulty difficulty) {
+        return catalogService.current().getScaleSummariesByDifficulty(difficulty);
     }
 
     public Scale getScaleById(Integer id) {
-        return scaleRepository.findById(id)
+        return catalogService.current().findScale(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Scale not found with id: " + id));
     }
 
     public Long getTotalScales() {
-        return scaleRepository.count();
+        return (long) catalogService.current().getScales().size();
     }
 
 }
@@ -1,11 +1,10 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
 import com.github.joshliford.amplifyguitar.dto.response.SongDetailDTO;
 import com.github.joshliford.amplifyguitar.dto.response.SongSummaryDTO;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.Song;
-import com.github.joshliford.amplifyguitar.repository.SongRepository;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -13,15 +12,16 @@ import java.util.List;
 @Service
 public class SongService {
 
-    private final SongRepository songRepository;
+    // songs are read from the in-memory catalog snapshot (no database round trip)
+    private final CatalogService catalogService;
 
-    public SongService(SongRepository songRepository) {
-        this.songRepository = songRepository;
+    public SongService(CatalogService catalogService) {
+        this.catalogService = catalogService;
     }
 
     public List<SongSummaryDTO> getAllSongs() {
-        // sort songs by how they're inserted via data.sql
-        List<Song> songs = songRepository.findAll(Sort.by(Sort.Direction.ASC, "id"));
+        // snapshot keeps songs sorted by how they're inserted via data.sql
+        List<Song> songs = catalogService.current().getSongs();
         return songs.stream()
                 .map(song -> new SongSummaryDTO(
                         song.getAlbumCoverUrl(),
@@ -35,7 +35,7 @@ public class SongService {
     }
 
     public SongDetailDTO getSongById(Integer id) {
-        Song song = songRepository.findById(id)
+        Song song = catalogService.current().findSong(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Song not found with id: " + id));
         return new SongDetailDTO(
                 song.getAlbumCoverUrl(),
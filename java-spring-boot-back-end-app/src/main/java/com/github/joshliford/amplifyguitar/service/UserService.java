@@ -1,23 +1,31 @@
 package com.github.joshliford.amplifyguitar.service;
 
+import com.github.joshliford.amplifyguitar.dto.response.UserResponseDTO;
 import com.github.joshliford.amplifyguitar.exception.ResourceNotFoundException;
 import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.repository.UserPracticeRollupRepository;
 import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import com.github.joshliford.amplifyguitar.security.PrincipalCache;
 import org.apache.commons.validator.routines.EmailValidator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /*
 Core methods:
 getUserById(Integer id)
+getReference(Integer id)
 createUser(User user)
 deleteUser(Integer id)
 findByEmail(String email)
 existsByEmail(String email)
 updateUserProfile(Integer id, displayName, email)
 updatePassword(Integer id, currentPassword, newPassword)
+buildUserResponse(User user)
 */
 
 @Service
@@ -25,10 +33,16 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final UserPracticeRollupRepository userPracticeRollupRepository;
+    private final LevelCurve levelCurve;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, PrincipalCache principalCache, UserPracticeRollupRepository userPracticeRollupRepository, LevelCurve levelCurve) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.principalCache = principalCache;
+        this.userPracticeRollupRepository = userPracticeRollupRepository;
+        this.levelCurve = levelCurve;
     }
 
     public User getUserById(Integer id) {
@@ -36,15 +50,25 @@ public class UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
     }
 
+    // returns a lazy reference without querying the users table
+    // use when only the user ID is needed (i.e. foreign keys, ownership checks)
+    public User getReference(Integer id) {
+        return userRepository.getReferenceById(id);
+    }
+
     public User createUser(User newUser) {
         newUser.setCreatedAt(LocalDateTime.now());
         return userRepository.save(newUser);
     }
 
+    @Transactional
     public void deleteUser(Integer id) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
+        // rollup rows aren't mapped on User (no cascade), so remove them before the user row
+        userPracticeRollupRepository.deleteByUserIds(List.of(id));
         userRepository.deleteById(id);
+        principalCache.evict(existingUser.getEmail());
     }
 
     public User findByEmail(String email) {
@@ -56,22 +80,32 @@ public class UserService {
         return userRepository.existsByEmail(email);
     }
 
+    // profile and password changes write only their own columns: saving the loaded User would write every column back,
+    // overwriting XP, level and streak changes a drain or login committed after it was read
+    // validation runs before the UPDATE so the entity is never dirtied (an auto flush would write the full row)
+    @Transactional
     public User updateUserProfile(Integer id, String displayName, String email) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
 
-        if (displayName != null) {
-            validateAndSetDisplayName(existingUser, displayName);
-        }
+        String newDisplayName = displayName != null ? validateDisplayName(displayName) : existingUser.getDisplayName();
+        String newEmail = email != null ? validateEmail(email) : existingUser.getEmail();
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.updateProfile(id, newDisplayName, newEmail, now);
 
         if (email != null) {
-            validateAndSetEmail(existingUser, email);
+            // old email must no longer resolve to this user from the principal cache
+            principalCache.evict(existingUser.getEmail());
         }
 
-        existingUser.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(existingUser);
+        // detached by the update, so these only shape the returned user
+        existingUser.setDisplayName(newDisplayName);
+        existingUser.setEmail(newEmail);
+        existingUser.setUpdatedAt(now);
+        return existingUser;
     }
 
+    @Transactional
     public User updatePassword(Integer id, String currentPassword, String newPassword) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
@@ -82,14 +116,37 @@ public class UserService {
 
         validatePassword(newPassword);
 
-        existingUser.setPasswordHash(passwordEncoder.encode(newPassword));
-        existingUser.setUpdatedAt(LocalDateTime.now());
-        return userRepository.save(existingUser);
+        String passwordHash = passwordEncoder.encode(newPassword);
+        LocalDateTime now = LocalDateTime.now();
+        userRepository.updatePassword(id, passwordHash, now);
+
+        existingUser.setPasswordHash(passwordHash);
+        existingUser.setUpdatedAt(now);
+        return existingUser;
     }
 
     // helper/validation  methods
 
-    public void validateAndSetDisplayName(User user, String displayName) {
+    // level fields are derived from totalXp with the configured curve, so the response stays consistent even for
+    // rows whose stored level predates a curve change
+    public UserResponseDTO buildUserResponse(User user) {
+        LevelCurve.Level level = levelCurve.levelFor(user.getTotalXp() != null ? user.getTotalXp() : 0);
+        return new UserResponseDTO(
+                level.level(),
+                user.getCurrentStreak(),
+                level.title(),
+                level.currentXp(),
+                user.getDisplayName(),
+                user.getLastLoginDate(),
+                user.getLessonsCompleted(),
+                user.getLongestStreak(),
+                user.getTotalXp(),
+                level.xpForNextLevel()
+        );
+    }
+
+    // returns the trimmed display name
+    public String validateDisplayName(String displayName) {
         String trimmedName = displayName.trim();
 
         if (trimmedName.isEmpty()) {
@@ -100,10 +157,10 @@ public class UserService {
             throw new IllegalArgumentException("Display name cannot exceed 20 characters");
         }
 
-        user.setDisplayName(trimmedName);
+        return trimmedName;
     }
 
-    public void validateAndSetEmail(User user, String email) {
+    public String validateEmail(String email) {
         if (!isValidEmail(email)) {
             throw new IllegalArgumentException("Invalid email format");
         }
@@ -112,7 +169,7 @@ public class UserService {
             throw new IllegalArgumentException("Email already in use");
         }
 
-        user.setEmail(email);
+        return email;
     }
 
     public void validatePassword(String password) {
@@ -427,16 +427,16 @@ INSERT IGNORE INTO practice_goals (title, duration_in_minutes, xp_reward) VALUES
 ('Deep Practice', 60, 90);
 
 -- Rewards
-INSERT IGNORE INTO reward (title, description, icon, reward_condition, xp_bonus, created_at) VALUES
-('First Steps', 'Complete your first lesson', 'Star', 'LESSON_1', 50, NOW()),
-('On a Roll', 'Complete 5 lessons', 'Flame', 'LESSON_5', 100, NOW()),
-('Dedicated', 'Maintain a 3 day streak', 'Zap', 'STREAK_3', 75, NOW()),
-('Unstoppable', 'Maintain a 5 day streak', 'Trophy', 'STREAK_5', 150, NOW()),
-('Level Up', 'Reach level 2', 'ArrowUp', 'LEVEL_2', 100, NOW()),
-('Halfway Hero', 'Reach level 5', 'Shield', 'LEVEL_5', 200, NOW()),
-('Legend', 'Reach level 10', 'Crown', 'LEVEL_10', 500, NOW()),
-('Spark', 'Earn 100 XP', 'Sparkles', 'XP_100', 50, NOW()),
-('String Slinger', 'Earn 500 total XP', 'Guitar', 'XP_500', 150, NOW());
+INSERT IGNORE INTO reward (title, description, icon, reward_condition, reward_stat, threshold, xp_bonus, created_at) VALUES
+('First Steps', 'Complete your first lesson', 'Star', 'LESSON_1', 'LESSONS_COMPLETED', 1, 50, NOW()),
+('On a Roll', 'Complete 5 lessons', 'Flame', 'LESSON_5', 'LESSONS_COMPLETED', 5, 100, NOW()),
+('Dedicated', 'Maintain a 3 day streak', 'Zap', 'STREAK_3', 'STREAK', 3, 75, NOW()),
+('Unstoppable', 'Maintain a 5 day streak', 'Trophy', 'STREAK_5', 'STREAK', 5, 150, NOW()),
+('Level Up', 'Reach level 2', 'ArrowUp', 'LEVEL_2', 'LEVEL', 2, 100, NOW()),
+('Halfway Hero', 'Reach level 5', 'Shield', 'LEVEL_5', 'LEVEL', 5, 200, NOW()),
+('Legend', 'Reach level 10', 'Crown', 'LEVEL_10', 'LEVEL', 10, 500, NOW()),
+('Spark', 'Earn 100 XP', 'Sparkles', 'XP_100', 'TOTAL_XP', 100, 50, NOW()),
+('String Slinger', 'Earn 500 total XP', 'Guitar', 'XP_500', 'TOTAL_XP', 500, 150, NOW());
 
 -- Lessons
 INSERT IGNORE INTO lessons (title, description, xp_reward, lesson_number, required_level, difficulty, content, video_url, created_at, updated_at) VALUES
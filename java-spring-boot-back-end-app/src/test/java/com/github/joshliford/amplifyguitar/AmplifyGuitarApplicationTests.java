@@ -2,8 +2,11 @@ package com.github.joshliford.amplifyguitar;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// uses the embedded H2 database from the test profile so the context loads without MySQL
 @SpringBootTest
+@ActiveProfiles("test")
 class AmplifyGuitarApplicationTests {
 
 	@Test
@@ -0,0 +1,77 @@
+package com.github.joshliford.amplifyguitar.config;
+
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.model.UserLesson;
+import com.github.joshliford.amplifyguitar.model.UserReward;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// an existing database without the unique keys (and with the duplicates they would have prevented) is repaired on startup
+@SpringBootTest
+@ActiveProfiles("test")
+class UniqueKeyMigrationTests {
+
+    @Autowired
+    private UniqueKeyMigration uniqueKeyMigration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void duplicateCompletionsAreRemovedBeforeTheKeyIsAdded() {
+        User user = userRepository.findByEmail("test-user-28@amplify.dev").orElseThrow();
+
+        // a table that predates the key: ddl-auto could not add it because of the duplicates
+        jdbcTemplate.execute("ALTER TABLE user_lessons DROP CONSTRAINT " + UserLesson.USER_LESSON_KEY);
+        for (int i = 0; i < 3; i++) {
+            insertCompletion(user.getId(), 1);
+        }
+        insertCompletion(user.getId(), 2);
+        Integer oldest = jdbcTemplate.queryForObject("SELECT MIN(id) FROM user_lessons WHERE user_id = ? AND lesson_id = 1", Integer.class, user.getId());
+
+        uniqueKeyMigration.migrate();
+
+        assertEquals(1, count("SELECT COUNT(*) FROM user_lessons WHERE user_id = ? AND lesson_id = 1", user.getId()));
+        assertEquals(1, count("SELECT COUNT(*) FROM user_lessons WHERE user_id = ? AND lesson_id = 2", user.getId()));
+        assertEquals(oldest, jdbcTemplate.queryForObject("SELECT id FROM user_lessons WHERE user_id = ? AND lesson_id = 1", Integer.class, user.getId()));
+        assertThrows(DataIntegrityViolationException.class, () -> insertCompletion(user.getId(), 1));
+    }
+
+    @Test
+    void duplicateRewardsAreRemovedBeforeTheKeyIsAdded() {
+        User user = userRepository.findByEmail("test-user-29@amplify.dev").orElseThrow();
+
+        jdbcTemplate.execute("ALTER TABLE user_reward DROP CONSTRAINT " + UserReward.USER_REWARD_KEY);
+        insertReward(user.getId(), 1);
+        insertReward(user.getId(), 1);
+
+        uniqueKeyMigration.migrate();
+
+        assertEquals(1, count("SELECT COUNT(*) FROM user_reward WHERE user_id = ? AND reward_id = 1", user.getId()));
+        assertThrows(DataIntegrityViolationException.class, () -> insertReward(user.getId(), 1));
+    }
+
+    private void insertCompletion(Integer userId, Integer lessonId) {
+        jdbcTemplate.update("INSERT INTO user_lessons (user_id, lesson_id, completed, completed_at, xp_earned) VALUES (?, ?, TRUE, NOW(), 100)", userId, lessonId);
+    }
+
+    private void insertReward(Integer userId, Integer rewardId) {
+        jdbcTemplate.update("INSERT INTO user_reward (user_id, reward_id, earned_at) VALUES (?, ?, NOW())", userId, rewardId);
+    }
+
+    private int count(String sql, Integer userId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, userId);
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.github.joshliford.amplifyguitar.controller;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserLessonRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import com.github.joshliford.amplifyguitar.security.JwtUtil;
+import com.github.joshliford.amplifyguitar.service.LessonService;
+import com.github.joshliford.amplifyguitar.service.PracticeSessionService;
+import com.github.joshliford.amplifyguitar.service.ProgressEventPipeline;
+import com.github.joshliford.amplifyguitar.service.RewardService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// SQL statements per read endpoint, counted with Hibernate statistics, for a user with lesson, reward and practice
+// history; a count going up usually means an association started loading per row again
+// every endpoint is called once before it is measured, so the per-user caches are warm (the steady state)
+// with eager UserReward/PracticeSession associations these were: rewards 11, practice sessions 2, dashboard 15
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EndpointStatementsTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private PracticeSessionService practiceSessionService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProgressEventPipeline progressEventPipeline;
+
+    @Autowired
+    private UserLessonRepository userLessonRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+
+    // idempotent, so it can run before every test in a shared context: only lessons the user hasn't completed yet are
+    // completed (a repeat would be a 409), and more sessions/rewards don't change the statement counts
+    @BeforeEach
+    void createHistory() {
+        User user = userRepository.findByEmail("test-user-17@amplify.dev").orElseThrow();
+        token = jwtUtil.generateToken(user.getEmail());
+
+        List<Integer> completed = userLessonRepository.findLessonIdsByUserId(user.getId());
+        List<Lesson> lessons = catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() <= user.getCurrentLevel())
+                .limit(3)
+                .filter(lesson -> !completed.contains(lesson.getId()))
+                .toList();
+        for (Lesson lesson : lessons) {
+            lessonService.completeLesson(userRepository.findById(user.getId()).orElseThrow(), lesson.getId());
+        }
+        for (Integer goalId : new Integer[]{1, 2, null}) {
+            PracticeSessionResponseDTO session = practiceSessionService.startPracticeSession(user, goalId);
+            practiceSessionService.endPracticeSession(user, session.getId(), null, 3600);
+        }
+        progressEventPipeline.flush(user.getId());
+        rewardService.checkAndAwardRewards(userRepository.findById(user.getId()).orElseThrow());
+    }
+
+    @Test
+    void readEndpointsRunAFixedNumberOfStatements() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        try {
+            // the user (for lock state); completed lesson IDs come from the cached bitset, lessons from the catalog snapshot
+            assertEquals(1, statements(statistics, "/api/lessons"));
+            // earned rewards with their reward in one join
+            assertEquals(1, statements(statistics, "/api/rewards"));
+            // one session page with its goals joined in
+            assertEquals(1, statements(statistics, "/api/practice-sessions"));
+            // user and earned rewards (catalog parts come from the snapshot)
+            assertEquals(2, statements(statistics, "/api/dashboard"));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private long statements(Statistics statistics, String path) throws Exception {
+        mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isOk());
+        statistics.clear();
+        mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+}
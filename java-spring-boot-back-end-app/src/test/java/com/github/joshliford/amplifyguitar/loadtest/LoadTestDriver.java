@@ -0,0 +1,177 @@
+package com.github.joshliford.amplifyguitar.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/*
+HTTP load driver for the REST API (java.net.http.HttpClient on virtual threads)
+- logs in every synthetic user seeded by LoadTestDataSeeder ("loadtest" profile)
+- fires a fixed number of requests per endpoint with bounded concurrency
+- reports count, unexpected responses, p50/p95/p99/max latency and throughput per endpoint as JSON
+
+Standalone usage against a running server (./mvnw spring-boot:run -Dspring-boot.run.profiles=loadtest):
+  java -cp <test classpath> com.github.joshliford.amplifyguitar.loadtest.LoadTestDriver \
+      --base-url=http://localhost:8080 --users=200 --requests=2000 --concurrency=64 --out=loadtest-report.json
+*/
+
+public class LoadTestDriver {
+
+    private final URI baseUrl;
+    private final int users;
+    private final int requestsPerEndpoint;
+    private final int concurrency;
+    private final String password;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    public LoadTestDriver(URI baseUrl, int users, int requestsPerEndpoint, int concurrency, String password) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.requestsPerEndpoint = requestsPerEndpoint;
+        this.concurrency = concurrency;
+        this.password = password;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(executor)
+                .build();
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        List<LoadTestReport.EndpointStats> results = new ArrayList<>();
+
+        // log in every user once; tokens are reused by the authenticated scenarios
+        String[] tokens = new String[users];
+        results.add(runScenario(new Scenario("POST /api/auth/login", users, i -> HttpRequest.newBuilder(uri("/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"loadtest-user-" + (i + 1) + "@amplify.dev\",\"password\":\"" + password + "\"}"))
+                .build(), Set.of(200), (i, body) -> tokens[i] = jsonMapper.readTree(body).get("token").asString())));
+
+        if (Arrays.stream(tokens).anyMatch(Objects::isNull)) {
+            throw new IllegalStateException("Login failed for one or more load test users; is the server running with the loadtest profile?");
+        }
+
+        results.add(runScenario(authenticated("GET /api/dashboard", tokens, i -> get("/api/dashboard"), Set.of(200))));
+        results.add(runScenario(authenticated("GET /api/lessons", tokens, i -> get("/api/lessons"), Set.of(200))));
+        // repeat/locked completions are expected once a user has finished a lesson or is under its required level
+        results.add(runScenario(authenticated("POST /api/lessons/{id}/complete", tokens,
+                i -> post("/api/lessons/" + (1 + (i / users) % 10) + "/complete", ""), Set.of(201, 403, 409))));
+        results.add(runScenario(authenticated("POST /api/practice-sessions", tokens,
+                i -> post("/api/practice-sessions", "{\"goalId\":" + (1 + i % 3) + "}"), Set.of(201))));
+        results.add(runScenario(authenticated("GET /api/practice-sessions", tokens, i -> get("/api/practice-sessions"), Set.of(200))));
+        results.add(runScenario(authenticated("POST /api/rewards/check", tokens, i -> post("/api/rewards/check", ""), Set.of(200))));
+        results.add(runScenario(authenticated("GET /api/songs", tokens, i -> get("/api/songs"), Set.of(200))));
+
+        executor.shutdown();
+        return new LoadTestReport(baseUrl.toString(), users, requestsPerEndpoint, concurrency, results);
+    }
+
+    public String toJson(LoadTestReport report) {
+        return jsonMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+    }
+
+    private LoadTestReport.EndpointStats runScenario(Scenario scenario) throws InterruptedException {
+        long[] latencies = new long[scenario.requests()];
+        AtomicInteger unexpected = new AtomicInteger();
+        Semaphore permits = new Semaphore(concurrency);
+        Thread[] threads = new Thread[scenario.requests()];
+
+        long started = System.nanoTime();
+        for (int i = 0; i < scenario.requests(); i++) {
+            permits.acquire();
+            int index = i;
+            threads[i] = Thread.ofVirtual().start(() -> {
+                try {
+                    HttpRequest request = scenario.request().apply(index);
+                    long requestStarted = System.nanoTime();
+                    HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                    latencies[index] = System.nanoTime() - requestStarted;
+                    if (!scenario.expectedStatuses().contains(response.statusCode())) {
+                        unexpected.incrementAndGet();
+                    } else if (scenario.onResponse() != null) {
+                        scenario.onResponse().accept(index, response.body());
+                    }
+                } catch (Exception exception) {
+                    latencies[index] = -1;
+                    unexpected.incrementAndGet();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        return LoadTestReport.EndpointStats.of(scenario.name(), latencies, unexpected.get(), elapsed);
+    }
+
+    private Scenario authenticated(String name, String[] tokens, IntFunction<HttpRequest.Builder> request, Set<Integer> expectedStatuses) {
+        return new Scenario(name, requestsPerEndpoint, i -> request.apply(i)
+                .header("Authorization", "Bearer " + tokens[i % tokens.length])
+                .build(), expectedStatuses, null);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private URI uri(String path) {
+        return baseUrl.resolve(path);
+    }
+
+    private record Scenario(String name, int requests, IntFunction<HttpRequest> request, Set<Integer> expectedStatuses,
+                            ResponseHandler onResponse) {
+    }
+
+    @FunctionalInterface
+    private interface ResponseHandler {
+        void accept(int index, String body);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+
+        LoadTestDriver driver = new LoadTestDriver(
+                URI.create(options.getOrDefault("base-url", "http://localhost:8080")),
+                Integer.parseInt(options.getOrDefault("users", "200")),
+                Integer.parseInt(options.getOrDefault("requests", "2000")),
+                Integer.parseInt(options.getOrDefault("concurrency", "64")),
+                options.getOrDefault("password", "loadtest-password")
+        );
+        String json = driver.toJson(driver.run());
+
+        if (options.containsKey("out")) {
+            Files.writeString(Path.of(options.get("out")), json);
+        }
+        System.out.println(json);
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.joshliford.amplifyguitar.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+// JSON report produced by LoadTestDriver (latencies in milliseconds)
+public record LoadTestReport(String baseUrl, int users, int requestsPerEndpoint, int concurrency, List<EndpointStats> endpoints) {
+
+    public int totalUnexpected() {
+        return endpoints.stream().mapToInt(EndpointStats::unexpected).sum();
+    }
+
+    public record EndpointStats(String endpoint, int requests, int unexpected, double p50Ms, double p95Ms, double p99Ms,
+                                double maxMs, double throughputPerSecond) {
+
+        // latencies in nanoseconds; negative entries are failed requests and are left out of the percentiles
+        static EndpointStats of(String endpoint, long[] latencies, int unexpected, long elapsedNanos) {
+            long[] sorted = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+            return new EndpointStats(
+                    endpoint,
+                    latencies.length,
+                    unexpected,
+                    percentile(sorted, 50),
+                    percentile(sorted, 95),
+                    percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]),
+                    Math.round(latencies.length / (elapsedNanos / 1_000_000_000.0) * 10) / 10.0
+            );
+        }
+
+        // nearest-rank percentile
+        private static double percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return toMillis(sorted[Math.max(rank, 1) - 1]);
+        }
+
+        private static double toMillis(long nanos) {
+            return Math.round(nanos / 10_000.0) / 100.0;
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.joshliford.amplifyguitar.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// boots the app on the embedded H2 "loadtest" profile and drives the REST API end to end
+// excluded from the default build; run with: ./mvnw -Ploadtest test
+// sizes can be overridden with -Dloadtest.requests=... -Dloadtest.concurrency=...
+// report is written to target/loadtest-report.json
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class LoadTestRunTests {
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void restApiUnderLoad() throws Exception {
+        LoadTestDriver driver = new LoadTestDriver(
+                URI.create("http://localhost:" + port),
+                Integer.getInteger("loadtest.users", 200),
+                Integer.getInteger("loadtest.requests", 2000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                "loadtest-password"
+        );
+
+        LoadTestReport report = driver.run();
+        String json = driver.toJson(report);
+        Files.writeString(Path.of("target", "loadtest-report.json"), json);
+        System.out.println(json);
+
+        assertEquals(0, report.totalUnexpected(), "unexpected responses under load");
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.github.joshliford.amplifyguitar.ratelimit;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// over-limit login/register requests get a 429 without ever reaching the controller (and its password hashing)
+class LoginRateLimitFilterTests {
+
+    // 3 attempts per IP and 2 per email, each refilled over an hour so nothing refills mid-test
+    private final LoginRateLimitFilter filter = new LoginRateLimitFilter(
+            new InMemoryRateLimitBackend(1000, 3600), JsonMapper.builder().build(), true, 3, 3600, 2, 3600);
+
+    @Test
+    void throttlesPerClientIp() throws Exception {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            MockFilterChain chain = new MockFilterChain();
+            MockHttpServletResponse response = login("10.0.0.1", "ip-" + attempt + "@amplify.dev", chain);
+            assertNotNull(chain.getRequest());
+            // headers describe the bucket closer to running out: a fresh email has 1 left, the IP 2 - attempt
+            assertEquals(String.valueOf(Math.min(2 - attempt, 1)), response.getHeader("X-RateLimit-Remaining"));
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = login("10.0.0.1", "ip-3@amplify.dev", chain);
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("3", response.getHeader("X-RateLimit-Limit"));
+        assertEquals("0", response.getHeader("X-RateLimit-Remaining"));
+        assertNotNull(response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        // other clients are unaffected
+        MockFilterChain other = new MockFilterChain();
+        login("10.0.0.2", "ip-4@amplify.dev", other);
+        assertNotNull(other.getRequest());
+    }
+
+    @Test
+    void throttlesPerEmailAcrossIps() throws Exception {
+        login("10.0.1.1", "target@amplify.dev", new MockFilterChain());
+        login("10.0.1.2", "Target@Amplify.dev", new MockFilterChain());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = login("10.0.1.3", "target@amplify.dev", chain);
+        assertNull(chain.getRequest());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getStatus());
+        assertEquals("2", response.getHeader("X-RateLimit-Limit"));
+    }
+
+    @Test
+    void passesTheBodyThroughToTheController() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        login("10.0.2.1", "body@amplify.dev", chain);
+
+        String body = new String(chain.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(loginBody("body@amplify.dev"), body);
+    }
+
+    // async (non-blocking) reads of the replayed body get it all in one callback
+    @Test
+    void passesTheBodyToAReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        login("10.0.2.2", "listener@amplify.dev", chain);
+
+        ServletInputStream stream = chain.getRequest().getInputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+        stream.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                byte[] buffer = new byte[64];
+                while (stream.isReady() && !stream.isFinished()) {
+                    int read = stream.read(buffer);
+                    if (read < 0) {
+                        break;
+                    }
+                    body.write(buffer, 0, read);
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        assertTrue(allDataRead.get());
+        assertEquals(loginBody("listener@amplify.dev"), body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void ignoresOtherEndpoints() throws Exception {
+        for (int attempt = 0; attempt < 5; attempt++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/lessons");
+            request.setRemoteAddr("10.0.3.1");
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    private MockHttpServletResponse login(String ip, String email, MockFilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(loginBody(email).getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static String loginBody(String email) {
+        return "{\"email\":\"" + email + "\",\"password\":\"not-the-password\"}";
+    }
+
+}
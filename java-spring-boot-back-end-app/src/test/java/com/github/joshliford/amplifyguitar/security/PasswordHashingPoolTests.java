@@ -0,0 +1,100 @@
+package com.github.joshliford.amplifyguitar.security;
+
+import com.github.joshliford.amplifyguitar.exception.GlobalExceptionHandler;
+import com.github.joshliford.amplifyguitar.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// a saturated hashing pool turns extra work away with a 503 + Retry-After instead of queueing it without bound
+class PasswordHashingPoolTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingPool pool;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        release.countDown();
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws Exception {
+        pool = new PasswordHashingPool(1, 1, 5_000, 3);
+        CountDownLatch running = new CountDownLatch(1);
+
+        // one hash occupies the only thread, a second fills the queue
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> pool.call(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> pool.call(() -> "second"));
+        for (int attempt = 0; attempt < 100 && pool.getQueueDepth() == 0; attempt++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, pool.getQueueDepth());
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> pool.call(() -> "third"));
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1, pool.getRejectedHashes());
+
+        // the admitted work still completes once the pool frees up
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        assertEquals(2, pool.getCompletedHashes());
+    }
+
+    @Test
+    void rejectsWhenTheHashDoesNotStartInTime() throws Exception {
+        pool = new PasswordHashingPool(1, 8, 100, 1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> pool.call(() -> {
+            running.countDown();
+            await(release);
+            return "first";
+        }));
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> pool.call(() -> "queued"));
+        assertEquals(1, pool.getRejectedHashes());
+        // the timeout only bounds the wait to start: a hash already running past it still returns its result,
+        // and the one that timed out in the queue is dropped rather than run for nobody
+        release.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, pool.getCompletedHashes());
+    }
+
+    @Test
+    void mapsToServiceUnavailableWithRetryAfter() {
+        ResponseEntity<?> response = new GlobalExceptionHandler()
+                .handleServiceUnavailableException(new ServiceUnavailableException("busy", 2));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.dto.request.LoginRequestDTO;
+import com.github.joshliford.amplifyguitar.dto.response.AuthResponseDTO;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// login re-hashes a password stored at another BCrypt cost and records the streak in the background
+@SpringBootTest
+@ActiveProfiles("test")
+class AuthServiceLoginTests {
+
+    // the password of the test-data.sql fixtures
+    private static final String PASSWORD = "test-password";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${security.password.bcrypt-strength}")
+    private int strength;
+
+    @Test
+    void loginRehashesAtTheConfiguredCostAndUpdatesTheStreak() throws InterruptedException {
+        User user = userRepository.findByEmail("test-user-19@amplify.dev").orElseThrow();
+        user.setPasswordHash(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        user.setLastLoginDate(LocalDate.now().minusDays(1));
+        userRepository.save(user);
+
+        AuthResponseDTO response = authService.login(new LoginRequestDTO(user.getEmail(), PASSWORD));
+        assertNotNull(response.getToken());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertTrue(updated.getPasswordHash().startsWith(String.format("$2a$%02d$", strength)), updated.getPasswordHash());
+        assertTrue(passwordEncoder.matches(PASSWORD, updated.getPasswordHash()));
+
+        // streak is written off the request thread
+        for (int attempt = 0; attempt < 100 && !LocalDate.now().equals(updated.getLastLoginDate()); attempt++) {
+            Thread.sleep(50);
+            updated = userRepository.findById(user.getId()).orElseThrow();
+        }
+        assertEquals(LocalDate.now(), updated.getLastLoginDate());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+// stands in for ProgressEventPipeline's progressEventExecutor (@Import(HoldableDrainExecutor.Config.class)):
+// drains run on virtual threads as usual, except between hold() and release(), which records them for the test to run
+class HoldableDrainExecutor implements Executor {
+
+    private final Executor delegate;
+    // null unless drains are being held
+    private List<Runnable> held;
+
+    HoldableDrainExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    synchronized void hold() {
+        held = new ArrayList<>();
+    }
+
+    // stops holding and returns the drains submitted since hold()
+    synchronized List<Runnable> release() {
+        List<Runnable> drains = held;
+        held = null;
+        return drains;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        synchronized (this) {
+            if (held != null) {
+                held.add(command);
+                return;
+            }
+        }
+        delegate.execute(command);
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        // primary among the progressEventExecutor candidates, so the pipeline gets this one instead of ExecutorConfig's
+        @Bean
+        @Primary
+        @Qualifier("progressEventExecutor")
+        HoldableDrainExecutor holdableDrainExecutor(@Qualifier("virtualThreadExecutor") ExecutorService virtualThreadExecutor) {
+            return new HoldableDrainExecutor(virtualThreadExecutor);
+        }
+
+    }
+
+}
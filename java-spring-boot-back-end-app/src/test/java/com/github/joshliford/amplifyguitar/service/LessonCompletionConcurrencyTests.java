@@ -0,0 +1,98 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.LessonResponseDTO;
+import com.github.joshliford.amplifyguitar.exception.LessonAlreadyCompleteException;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserLessonRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// parallel completions of the same lesson (double clicks, retries): exactly one wins and the XP is awarded once
+@SpringBootTest
+@ActiveProfiles("test")
+class LessonCompletionConcurrencyTests {
+
+    private static final int ATTEMPTS_PER_LESSON = 16;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private ProgressEventPipeline progressEventPipeline;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private UserLessonRepository userLessonRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void parallelCompletionsOfOneLessonAwardItOnce() throws Exception {
+        User user = userRepository.findByEmail("test-user-16@amplify.dev").orElseThrow();
+        List<Lesson> lessons = catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() <= user.getCurrentLevel())
+                .limit(4)
+                .toList();
+        // loads the cached completed-lesson bitset before the completions, so it has to be updated by them
+        assertTrue(lessonService.getLessons(user).stream()
+                .filter(response -> lessons.stream().anyMatch(lesson -> lesson.getId().equals(response.getId())))
+                .noneMatch(LessonResponseDTO::isCompleted));
+
+        // every attempt waits on the latch so they hit the insert together
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(ATTEMPTS_PER_LESSON * lessons.size())) {
+            for (Lesson lesson : lessons) {
+                for (int i = 0; i < ATTEMPTS_PER_LESSON; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return lessonService.completeLesson(user, lesson.getId());
+                    }));
+                }
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(LessonAlreadyCompleteException.class, e.getCause());
+                }
+            }
+            assertEquals(lessons.size(), succeeded);
+        }
+
+        progressEventPipeline.flush(user.getId());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(lessons.size(), userLessonRepository.findLessonIdsByUserId(updated.getId()).size());
+        assertEquals(user.getLessonsCompleted() + lessons.size(), updated.getLessonsCompleted());
+        assertEquals(user.getTotalXp() + lessons.stream().mapToInt(Lesson::getXpReward).sum(), updated.getTotalXp());
+        for (Lesson lesson : lessons) {
+            assertTrue(lessonService.getLessonById(lesson.getId(), updated).isCompleted());
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.ProgressEventRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// statements per lesson completion, counted with Hibernate statistics
+// before the completion flow was split into one request transaction and a coalesced drain, a single completion ran 19-21
+// statements in 5-11 transactions (user save, XP update + re-reads, a query per reward rule, lesson insert each on their own);
+// now the request runs at most 4 in one transaction, and a drain applies any number of pending completions with 5
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(HoldableDrainExecutor.Config.class)
+class LessonCompletionStatementsTests {
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private HoldableDrainExecutor drainExecutor;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void completionAndDrainRunAFixedNumberOfStatements() {
+        User user = userRepository.findByEmail("test-user-15@amplify.dev").orElseThrow();
+        List<Lesson> lessons = catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() <= 1)
+                .limit(3)
+                .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // hold the drains back so the request path and the drain are measured separately
+        List<Runnable> drains;
+        drainExecutor.hold();
+        try {
+            // request path: user_lessons insert (its unique key doubles as the already-completed check), user progress
+            // with the pending outbox sums (lock check and response), outbox insert, earned rewards read; no user writes
+            statistics.clear();
+            lessonService.completeLesson(user, lessons.get(0).getId());
+            long requestStatements = statistics.getPrepareStatementCount();
+            assertTrue(requestStatements <= 4, "completeLesson ran " + requestStatements + " statements");
+            assertEquals(1, statistics.getTransactionCount());
+
+            for (Lesson lesson : lessons.subList(1, lessons.size())) {
+                lessonService.completeLesson(userRepository.findById(user.getId()).orElseThrow(), lesson.getId());
+            }
+        } finally {
+            drains = drainExecutor.release();
+        }
+        // one drain was scheduled for the user; the later completions only flagged it
+        assertEquals(1, drains.size());
+
+        // drain: the three completions are applied with one user UPDATE
+        // (user lock, events read, one user UPDATE, earned rewards read, outbox delete)
+        statistics.clear();
+        drains.forEach(Runnable::run);
+        long drainStatements = statistics.getPrepareStatementCount();
+        assertTrue(drainStatements <= 5, "drain ran " + drainStatements + " statements");
+        assertEquals(1, statistics.getTransactionCount());
+        assertTrue(progressEventRepository.findByUserIdOrderByIdAsc(user.getId()).isEmpty());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(user.getLessonsCompleted() + lessons.size(), updated.getLessonsCompleted());
+        assertEquals(user.getTotalXp() + lessons.stream().mapToInt(Lesson::getXpReward).sum(), updated.getTotalXp());
+
+        statistics.setStatisticsEnabled(false);
+    }
+
+}
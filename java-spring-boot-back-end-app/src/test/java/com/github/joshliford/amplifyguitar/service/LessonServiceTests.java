@@ -0,0 +1,99 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.CompleteLessonResponseDTO;
+import com.github.joshliford.amplifyguitar.exception.LessonAlreadyCompleteException;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.ProgressEvent;
+import com.github.joshliford.amplifyguitar.model.ProgressEventType;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.model.UserLesson;
+import com.github.joshliford.amplifyguitar.repository.ProgressEventRepository;
+import com.github.joshliford.amplifyguitar.repository.UserLessonRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// a completion is checked and reported against the user's progress as of its own transaction (applied plus pending),
+// not against the user the controller loaded before it
+@SpringBootTest
+@ActiveProfiles("test")
+class LessonServiceTests {
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private ProgressEventPipeline progressEventPipeline;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @Autowired
+    private UserLessonRepository userLessonRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void drainBetweenLoadingTheUserAndCompletingIsReported() {
+        User user = userRepository.findByEmail("test-user-25@amplify.dev").orElseThrow();
+        List<Lesson> lessons = lessonsRequiringLevel(1, 2);
+
+        // the request loads the user, then an earlier completion is drained before its transaction starts
+        User stale = userRepository.findById(user.getId()).orElseThrow();
+        lessonService.completeLesson(userRepository.findById(user.getId()).orElseThrow(), lessons.get(0).getId());
+        progressEventPipeline.flush(user.getId());
+
+        CompleteLessonResponseDTO response = lessonService.completeLesson(stale, lessons.get(1).getId());
+
+        int lessonXp = lessons.stream().mapToInt(Lesson::getXpReward).sum();
+        assertEquals(user.getTotalXp() + lessonXp, response.getNewTotalXp());
+        assertEquals(2, response.getNewLevel());
+        assertTrue(response.isLeveledUp());
+    }
+
+    @Test
+    void pendingXpUnlocksTheNextLevel() {
+        User user = userRepository.findByEmail("test-user-26@amplify.dev").orElseThrow();
+        Lesson lesson = lessonsRequiringLevel(2, 1).getFirst();
+
+        // enough XP for level 2 is recorded but not drained yet
+        progressEventRepository.save(new ProgressEvent(LocalDateTime.now(), ProgressEventType.PRACTICE_SESSION_ENDED, 0, null, user.getId(), 150));
+
+        CompleteLessonResponseDTO response = lessonService.completeLesson(user, lesson.getId());
+        assertEquals(150 + lesson.getXpReward(), response.getNewTotalXp());
+
+        progressEventPipeline.flush(user.getId());
+        assertEquals(150 + lesson.getXpReward(), userRepository.findById(user.getId()).orElseThrow().getTotalXp());
+    }
+
+    @Test
+    void completedLessonAboveTheUsersLevelReportsAlreadyComplete() {
+        User user = userRepository.findByEmail("test-user-27@amplify.dev").orElseThrow();
+        Lesson lesson = lessonsRequiringLevel(2, 1).getFirst();
+        userLessonRepository.save(new UserLesson(true, LocalDateTime.now(), lesson, user, lesson.getXpReward()));
+
+        assertThrows(LessonAlreadyCompleteException.class, () -> lessonService.completeLesson(user, lesson.getId()));
+    }
+
+    private List<Lesson> lessonsRequiringLevel(int level, int count) {
+        return catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() == level)
+                .limit(count)
+                .toList();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeStatsDTO;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserPracticeRollupRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// the incrementally maintained rollup must match a rebuild from practice_sessions, and a rollup missing history is
+// rebuilt on its own while stats are served from practice_sessions
+@SpringBootTest
+@ActiveProfiles("test")
+class PracticeRollupServiceTests {
+
+    @Autowired
+    private PracticeSessionService practiceSessionService;
+
+    @Autowired
+    private PracticeRollupService practiceRollupService;
+
+    @Autowired
+    private UserPracticeRollupRepository userPracticeRollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void incrementalRollupMatchesBackfill() {
+        User user = userRepository.findByEmail("test-user-7@amplify.dev").orElseThrow();
+
+        // free play (no XP), a completed goal (XP) and a session ended twice with a new duration
+        complete(user, null, 300);
+        complete(user, 2, 3600);
+        PracticeSessionResponseDTO session = practiceSessionService.startPracticeSession(user, null);
+        practiceSessionService.endPracticeSession(user, session.getId(), "first", 120);
+        practiceSessionService.endPracticeSession(user, session.getId(), "second", 180);
+        // started but never ended: not counted
+        practiceSessionService.startPracticeSession(user, 1);
+
+        assertEquals(300 + 3600 + 180, practiceSessionService.getTotalPracticeTime(user));
+        UserPracticeRollupRepository.PracticeTotals incremental = userPracticeRollupRepository.findPracticeTotals(user);
+        assertEquals(3L, incremental.getSessionCount());
+
+        practiceRollupService.backfill();
+
+        UserPracticeRollupRepository.PracticeTotals rebuilt = userPracticeRollupRepository.findPracticeTotals(user);
+        assertEquals(incremental.getTotalSeconds(), rebuilt.getTotalSeconds());
+        assertEquals(incremental.getSessionCount(), rebuilt.getSessionCount());
+        assertEquals(3L, practiceSessionService.getPracticeStats(user).getSessionCount());
+    }
+
+    @Test
+    void statsReadSessionsUntilTheStaleRollupIsRebuilt() {
+        User user = userRepository.findByEmail("test-user-23@amplify.dev").orElseThrow();
+        complete(user, null, 600);
+        complete(user, 1, 900);
+
+        // history from before the rollup existed: sessions without rollup rows, and a freshly started app
+        jdbcTemplate.update("DELETE FROM user_practice_rollup WHERE user_id = ?", user.getId());
+        ReflectionTestUtils.setField(practiceRollupService, "ready", false);
+        try {
+            assertEquals(1500, practiceSessionService.getTotalPracticeTime(user));
+            PracticeStatsDTO stats = practiceSessionService.getPracticeStats(user);
+            assertEquals(2L, stats.getSessionCount());
+            assertEquals(1500L, stats.getWeekly().getLast().getTotalPracticeTime());
+
+            // the startup check notices the missing sessions and rebuilds without any flag being set
+            assertTrue(practiceRollupService.backfillIfStale());
+        } finally {
+            ReflectionTestUtils.setField(practiceRollupService, "ready", true);
+        }
+
+        assertTrue(practiceRollupService.isReady());
+        assertEquals(1500L, userPracticeRollupRepository.findPracticeTotals(user).getTotalSeconds());
+        assertEquals(2L, practiceSessionService.getPracticeStats(user).getSessionCount());
+        assertFalse(practiceRollupService.backfillIfStale());
+    }
+
+    private void complete(User user, Integer goalId, int seconds) {
+        PracticeSessionResponseDTO session = practiceSessionService.startPracticeSession(user, goalId);
+        practiceSessionService.endPracticeSession(user, session.getId(), null, seconds);
+    }
+
+}
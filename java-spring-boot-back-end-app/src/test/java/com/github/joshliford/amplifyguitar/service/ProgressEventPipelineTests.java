@@ -0,0 +1,189 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.CompleteLessonResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.ProgressEvent;
+import com.github.joshliford.amplifyguitar.model.ProgressEventType;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.repository.ProgressEventRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// completions are applied asynchronously from the outbox: every event lands exactly once and the outbox drains
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(HoldableDrainExecutor.Config.class)
+class ProgressEventPipelineTests {
+
+    private static final int AWARDS = 1_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private PracticeSessionService practiceSessionService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProgressEventRepository progressEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProgressEventPipeline progressEventPipeline;
+
+    @Autowired
+    private HoldableDrainExecutor drainExecutor;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private LevelCurve levelCurve;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void completionsAreAppliedFromTheOutbox() throws InterruptedException {
+        User user = userRepository.findByEmail("test-user-14@amplify.dev").orElseThrow();
+        int totalXpBefore = user.getTotalXp();
+        int lessonsBefore = user.getLessonsCompleted();
+
+        List<Lesson> lessons = catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() <= 1)
+                .limit(3)
+                .toList();
+        int lessonXp = 0;
+        for (Lesson lesson : lessons) {
+            CompleteLessonResponseDTO response = lessonService.completeLesson(userRepository.findById(user.getId()).orElseThrow(), lesson.getId());
+            assertEquals(lesson.getXpReward(), response.getXpEarned());
+            lessonXp += lesson.getXpReward();
+        }
+        PracticeSessionResponseDTO session = practiceSessionService.startPracticeSession(user, 1);
+        PracticeSessionResponseDTO ended = practiceSessionService.endPracticeSession(user, session.getId(), null, 3600);
+
+        awaitDrained(user.getId());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(totalXpBefore + lessonXp + ended.getXpEarned(), updated.getTotalXp());
+        assertEquals(lessonsBefore + lessons.size(), updated.getLessonsCompleted());
+    }
+
+    @Test
+    void completionsBeforeTheDrainReportCumulativeProgress() {
+        User user = userRepository.findByEmail("test-user-24@amplify.dev").orElseThrow();
+        jdbcTemplate.update("UPDATE users SET lessons_completed = 3 WHERE id = ?", user.getId());
+        List<Lesson> lessons = catalogService.current().getLessons().stream()
+                .filter(lesson -> lesson.getRequiredLevel() <= user.getCurrentLevel())
+                .limit(2)
+                .toList();
+
+        // both complete before either is drained, each with the user as loaded at the start of its request
+        List<Runnable> drains;
+        List<CompleteLessonResponseDTO> responses = new ArrayList<>();
+        drainExecutor.hold();
+        try {
+            User stale = userRepository.findById(user.getId()).orElseThrow();
+            for (Lesson lesson : lessons) {
+                responses.add(lessonService.completeLesson(stale, lesson.getId()));
+            }
+        } finally {
+            drains = drainExecutor.release();
+        }
+
+        // 3 -> 4 crosses nothing; 4 -> 5 earns "On a Roll", and only the second response reports it
+        assertTrue(titles(responses.get(0)).stream().noneMatch("On a Roll"::equals));
+        assertTrue(titles(responses.get(1)).contains("On a Roll"));
+        int lessonXp = lessons.stream().mapToInt(Lesson::getXpReward).sum();
+        assertEquals(user.getTotalXp() + lessonXp, responses.get(1).getNewTotalXp());
+
+        drains.forEach(Runnable::run);
+        assertEquals(user.getTotalXp() + lessonXp, userRepository.findById(user.getId()).orElseThrow().getTotalXp());
+    }
+
+    // concurrent drains for one user must apply every award exactly once, and level state must always match the total
+    @Test
+    void parallelDrainsDoNotLoseXp() throws Exception {
+        User user = userRepository.findByEmail("test-user-8@amplify.dev").orElseThrow();
+        int initialTotal = user.getTotalXp();
+
+        // mix of small awards and multi-level jumps; every award races a drain (applyProgress on the locked row)
+        int expectedAwarded = 0;
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < AWARDS; i++) {
+                int xp = i % 100 == 0 ? 2_500 : 1 + i % 40;
+                expectedAwarded += xp;
+                results.add(executor.submit(() -> {
+                    progressEventRepository.save(new ProgressEvent(LocalDateTime.now(), ProgressEventType.PRACTICE_SESSION_ENDED, 0, null, user.getId(), xp));
+                    progressEventPipeline.flush(user.getId());
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        assertTrue(progressEventRepository.findByUserIdOrderByIdAsc(user.getId()).isEmpty());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        int total = initialTotal + expectedAwarded;
+        assertEquals(total, updated.getTotalXp());
+
+        // the stored level state must match the curve for the final total
+        LevelCurve.Level level = levelCurve.levelFor(total);
+        assertEquals(level.level(), updated.getCurrentLevel());
+        assertEquals(level.currentXp(), updated.getCurrentXp());
+        assertEquals(level.title(), updated.getCurrentTitle());
+    }
+
+    // a write that bypassed the row lock fails the apply instead of being overwritten
+    @Test
+    void xpWrittenOutsideTheLockIsNotOverwritten() {
+        User user = userRepository.findByEmail("test-user-30@amplify.dev").orElseThrow();
+        User stale = userRepository.findById(user.getId()).orElseThrow();
+        jdbcTemplate.update("UPDATE users SET total_xp = total_xp + 40 WHERE id = ?", user.getId());
+
+        assertThrows(IllegalStateException.class, () -> progressService.applyProgress(stale, 100, 1));
+
+        User unchanged = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(user.getTotalXp() + 40, unchanged.getTotalXp());
+        assertEquals(user.getLessonsCompleted(), unchanged.getLessonsCompleted());
+    }
+
+    private static List<String> titles(CompleteLessonResponseDTO response) {
+        return response.getNewRewards().stream().map(RewardResponseDTO::getTitle).toList();
+    }
+
+    private void awaitDrained(Integer userId) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && !progressEventRepository.findByUserIdOrderByIdAsc(userId).isEmpty(); attempt++) {
+            Thread.sleep(50);
+        }
+        assertTrue(progressEventRepository.findByUserIdOrderByIdAsc(userId).isEmpty(), "progress events were not applied");
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.catalog.CatalogService;
+import com.github.joshliford.amplifyguitar.dto.response.PracticeSessionResponseDTO;
+import com.github.joshliford.amplifyguitar.model.BatchJobCheckpoint;
+import com.github.joshliford.amplifyguitar.model.Lesson;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.progress.LevelCurve;
+import com.github.joshliford.amplifyguitar.repository.BatchJobCheckpointRepository;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// the bulk recompute must re-derive progress from history and pick up where an interrupted run stopped
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(HoldableDrainExecutor.Config.class)
+class ProgressRecomputeServiceTests {
+
+    @Autowired
+    private ProgressRecomputeService progressRecomputeService;
+
+    @Autowired
+    private PracticeSessionService practiceSessionService;
+
+    @Autowired
+    private LessonService lessonService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private ProgressEventPipeline progressEventPipeline;
+
+    @Autowired
+    private HoldableDrainExecutor drainExecutor;
+
+    @Autowired
+    private BatchJobCheckpointRepository batchJobCheckpointRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LevelCurve levelCurve;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // small chunks so the seeded users span many parallel chunks
+    @BeforeEach
+    void useSmallChunks() {
+        ReflectionTestUtils.setField(progressRecomputeService, "chunkSize", 7);
+    }
+
+    @Test
+    void recomputeRederivesProgressFromHistory() {
+        User user = userRepository.findByEmail("test-user-9@amplify.dev").orElseThrow();
+        PracticeSessionResponseDTO session = practiceSessionService.startPracticeSession(user, 2);
+        practiceSessionService.endPracticeSession(user, session.getId(), null, 3600);
+        int historyXp = sumPracticeXp(user.getId());
+
+        // corrupt the derived fields the way a curve change would leave them
+        jdbcTemplate.update("UPDATE users SET total_xp = 0, current_level = 9, current_xp = 5, current_title = 'Expert', lessons_completed = 3, longest_streak = 0, current_streak = 4 WHERE id = ?", user.getId());
+
+        long usersInTable = userRepository.count();
+        assertEquals(usersInTable, progressRecomputeService.recompute());
+        // the session's event may still be pending; the recompute leaves it to the drain
+        progressEventPipeline.flush(user.getId());
+
+        User recomputed = userRepository.findById(user.getId()).orElseThrow();
+        LevelCurve.Level level = levelCurve.levelFor(historyXp);
+        assertEquals(historyXp, recomputed.getTotalXp());
+        assertEquals(level.level(), recomputed.getCurrentLevel());
+        assertEquals(level.currentXp(), recomputed.getCurrentXp());
+        assertEquals(level.title(), recomputed.getCurrentTitle());
+        assertEquals(0, recomputed.getLessonsCompleted());
+        // streaks have no history to recompute from and are left as they were
+        assertEquals(0, recomputed.getLongestStreak());
+        assertEquals(4, recomputed.getCurrentStreak());
+        assertFalse(batchJobCheckpointRepository.existsById(ProgressRecomputeService.JOB_NAME));
+    }
+
+    @Test
+    void recomputeLeavesPendingEventsToTheDrain() {
+        User user = userRepository.findByEmail("test-user-20@amplify.dev").orElseThrow();
+        Lesson lesson = catalogService.current().getLessons().stream()
+                .filter(candidate -> candidate.getRequiredLevel() <= user.getCurrentLevel())
+                .findFirst()
+                .orElseThrow();
+
+        // the completion commits its user_lessons row and outbox event; its drain is held back
+        List<Runnable> drains;
+        drainExecutor.hold();
+        try {
+            lessonService.completeLesson(user, lesson.getId());
+        } finally {
+            drains = drainExecutor.release();
+        }
+
+        progressRecomputeService.recompute();
+        drains.forEach(Runnable::run);
+
+        // counted once: by the drain, not also by the recompute
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(sumLessonXp(user.getId()) + sumPracticeXp(user.getId()), updated.getTotalXp());
+        assertEquals(countLessons(user.getId()), updated.getLessonsCompleted());
+    }
+
+    @Test
+    void recomputeResumesAfterCheckpoint() {
+        User user = userRepository.findByEmail("test-user-9@amplify.dev").orElseThrow();
+        jdbcTemplate.update("UPDATE users SET current_title = 'Stale' WHERE id = ?", user.getId());
+
+        // an interrupted run that already got past this user only processes the remaining ones
+        Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE id > ?", Integer.class, user.getId());
+        batchJobCheckpointRepository.save(new BatchJobCheckpoint(ProgressRecomputeService.JOB_NAME, user.getId(), 9L, LocalDateTime.now()));
+
+        assertEquals(remaining.longValue(), progressRecomputeService.recompute());
+        assertEquals("Stale", userRepository.findById(user.getId()).orElseThrow().getCurrentTitle());
+        assertFalse(batchJobCheckpointRepository.existsById(ProgressRecomputeService.JOB_NAME));
+    }
+
+    private int sumLessonXp(Integer userId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(xp_earned), 0) FROM user_lessons WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int countLessons(Integer userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_lessons WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int sumPracticeXp(Integer userId) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(xp_earned), 0) FROM practice_sessions WHERE user_id = ? AND completed = TRUE", Integer.class, userId);
+    }
+
+}
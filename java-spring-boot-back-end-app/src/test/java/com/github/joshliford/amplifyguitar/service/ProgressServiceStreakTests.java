@@ -0,0 +1,86 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// the streak UPDATE only applies on the first login of a day, however many logins race for it, and awards the
+// streak rewards it reaches
+@SpringBootTest
+@ActiveProfiles("test")
+class ProgressServiceStreakTests {
+
+    private static final int LOGINS = 16;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Test
+    void concurrentLoginsOnANewDayExtendTheStreakOnce() throws Exception {
+        User user = userRepository.findByEmail("test-user-18@amplify.dev").orElseThrow();
+        user.setLastLoginDate(LocalDate.now().minusDays(1));
+        user.setCurrentStreak(3);
+        user.setLongestStreak(3);
+        userRepository.save(user);
+        String passwordHash = user.getPasswordHash();
+
+        List<Future<User>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(LOGINS)) {
+            for (int i = 0; i < LOGINS; i++) {
+                results.add(executor.submit(() -> progressService.updateStreak(userRepository.findById(user.getId()).orElseThrow())));
+            }
+            for (Future<User> result : results) {
+                result.get();
+            }
+        }
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals(LocalDate.now(), updated.getLastLoginDate());
+        assertEquals(4, updated.getCurrentStreak());
+        assertEquals(4, updated.getLongestStreak());
+        assertEquals(passwordHash, updated.getPasswordHash());
+
+        // same day again: nothing to write
+        assertEquals(4, progressService.updateStreak(updated).getCurrentStreak());
+    }
+
+    @Test
+    void thirdConsecutiveLoginAwardsTheStreakReward() {
+        User user = userRepository.findByEmail("test-user-21@amplify.dev").orElseThrow();
+        user.setLastLoginDate(LocalDate.now().minusDays(1));
+        user.setCurrentStreak(2);
+        userRepository.save(user);
+        assertFalse(earnedTitles(user).contains("Dedicated"));
+
+        User updated = progressService.updateStreak(userRepository.findById(user.getId()).orElseThrow());
+
+        assertEquals(3, updated.getCurrentStreak());
+        assertTrue(earnedTitles(user).contains("Dedicated"));
+    }
+
+    private List<String> earnedTitles(User user) {
+        return rewardService.getEarnedRewards(user).stream().map(RewardResponseDTO::getTitle).toList();
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.dto.response.RewardResponseDTO;
+import com.github.joshliford.amplifyguitar.model.RewardStat;
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// incremental evaluation only awards the rules a change crossed; the full check picks up the rest exactly once
+@SpringBootTest
+@ActiveProfiles("test")
+class RewardServiceTests {
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void crossedRulesAreAwardedOnce() {
+        // rules are evaluated against the passed-in stats, so pin them regardless of what other tests did to the row
+        User user = userRepository.findByEmail("test-user-12@amplify.dev").orElseThrow();
+        user.setLessonsCompleted(0);
+        user.setCurrentLevel(3);
+        user.setCurrentStreak(0);
+        user.setTotalXp(450);
+
+        List<RewardResponseDTO> crossed = rewardService.awardCrossedRewards(user, List.of(
+                new RewardService.StatChange(RewardStat.LEVEL, 1, 2)
+        ));
+        assertEquals(List.of("Level Up"), crossed.stream().map(RewardResponseDTO::getTitle).toList());
+
+        // a change inside the same band crosses nothing
+        assertTrue(rewardService.awardCrossedRewards(user, List.of(
+                new RewardService.StatChange(RewardStat.LEVEL, 2, 3)
+        )).isEmpty());
+
+        // the full check awards what the user's stats already reached, minus what was just earned
+        List<RewardResponseDTO> remaining = rewardService.checkAndAwardRewards(user);
+        assertEquals(List.of("Spark"), remaining.stream().map(RewardResponseDTO::getTitle).toList());
+        assertTrue(rewardService.checkAndAwardRewards(user).isEmpty());
+        assertEquals(2, rewardService.getEarnedRewards(user).size());
+    }
+
+    @Test
+    void concurrentChecksInsertEachRewardOnce() throws Exception {
+        User user = userRepository.findByEmail("test-user-13@amplify.dev").orElseThrow();
+        user.setLessonsCompleted(5);
+        user.setCurrentLevel(5);
+        user.setCurrentStreak(5);
+        user.setTotalXp(600);
+
+        // every check starts before any has cached the result, so all of them race on the insert
+        int reported = 0;
+        List<Future<List<RewardResponseDTO>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> rewardService.checkAndAwardRewards(user)));
+            }
+            for (Future<List<RewardResponseDTO>> result : results) {
+                reported += result.get().size();
+            }
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_reward WHERE user_id = ?", Integer.class, user.getId());
+        Integer distinct = jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT reward_id) FROM user_reward WHERE user_id = ?", Integer.class, user.getId());
+        // lessons 1 & 5, streaks 3 & 5, levels 2 & 5, XP 100 & 500
+        assertEquals(8, rows);
+        assertEquals(rows, distinct);
+        assertEquals(rows, reported);
+    }
+
+    @Test
+    void rolledBackAwardIsNotCachedAsEarned() {
+        User user = userRepository.findByEmail("test-user-22@amplify.dev").orElseThrow();
+        user.setLessonsCompleted(0);
+        user.setCurrentLevel(1);
+        user.setCurrentStreak(0);
+        user.setTotalXp(0);
+        List<RewardService.StatChange> levelUp = List.of(new RewardService.StatChange(RewardStat.LEVEL, 1, 2));
+
+        // the drain's transaction fails after the reward rows were inserted
+        transactionTemplate.executeWithoutResult(status -> {
+            assertEquals(1, rewardService.awardCrossedRewards(user, levelUp).size());
+            status.setRollbackOnly();
+        });
+
+        // the rows are gone, so the retry has to award the reward again
+        assertEquals(List.of("Level Up"), rewardService.awardCrossedRewards(user, levelUp).stream().map(RewardResponseDTO::getTitle).toList());
+        assertEquals(1, rewardService.getEarnedRewards(user).size());
+    }
+
+    @Test
+    void failedRewardInsertIsNotSwallowed() {
+        // no users row behind this ID, so the insert violates the foreign key; only duplicate keys may be ignored
+        User missing = new User();
+        ReflectionTestUtils.setField(missing, "id", Integer.MAX_VALUE);
+        missing.setLessonsCompleted(1);
+
+        assertThrows(DataIntegrityViolationException.class, () -> rewardService.checkAndAwardRewards(missing));
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.github.joshliford.amplifyguitar.service;
+
+import com.github.joshliford.amplifyguitar.model.User;
+import com.github.joshliford.amplifyguitar.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// profile and password changes write only their own columns and leave progress alone
+@SpringBootTest
+@ActiveProfiles("test")
+class UserServiceTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void profileUpdateKeepsProgress() {
+        User user = userRepository.findByEmail("test-user-31@amplify.dev").orElseThrow();
+        jdbcTemplate.update("UPDATE users SET total_xp = 400, current_level = 3, lessons_completed = 4, current_streak = 2 WHERE id = ?", user.getId());
+
+        User returned = userService.updateUserProfile(user.getId(), "  renamed  ", "renamed-31@amplify.dev");
+        assertEquals("renamed", returned.getDisplayName());
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertEquals("renamed", updated.getDisplayName());
+        assertEquals("renamed-31@amplify.dev", updated.getEmail());
+        assertEquals(400, updated.getTotalXp());
+        assertEquals(3, updated.getCurrentLevel());
+        assertEquals(4, updated.getLessonsCompleted());
+        assertEquals(2, updated.getCurrentStreak());
+    }
+
+    @Test
+    void passwordUpdateKeepsProgress() {
+        User user = userRepository.findByEmail("test-user-32@amplify.dev").orElseThrow();
+        jdbcTemplate.update("UPDATE users SET total_xp = 250, lessons_completed = 2 WHERE id = ?", user.getId());
+
+        userService.updatePassword(user.getId(), "test-password", "a-new-password");
+
+        User updated = userRepository.findById(user.getId()).orElseThrow();
+        assertTrue(passwordEncoder.matches("a-new-password", updated.getPasswordHash()));
+        assertEquals(250, updated.getTotalXp());
+        assertEquals(2, updated.getLessonsCompleted());
+    }
+
+}
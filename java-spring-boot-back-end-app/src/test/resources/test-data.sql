@@ -0,0 +1,9 @@
+-- Test fixtures (test profile only): freshly registered users test-user-{n}@amplify.dev / test-password
+-- each test class works on its own users, so tests sharing a context don't see each other's progress
+-- password_hash is BCrypt (cost 10) of 'test-password'
+
+INSERT INTO users (email, password_hash, first_name, last_name, display_name, current_title, current_level, total_xp, current_xp, current_streak, longest_streak, lessons_completed, created_at, updated_at)
+SELECT CONCAT('test-user-', n, '@amplify.dev'),
+       '$2a$10$zk1n5.tF.sIz1BvDMdEPXekiOdhxp2gyHJjq8wXAvqIcWXjyR/hJ2',
+       'Test', 'User', CONCAT('test', n), 'Beginner', 1, 0, 0, 0, 0, 0, NOW(), NOW()
+FROM (SELECT "X" AS n FROM SYSTEM_RANGE(1, 32)) seq;
@@ -2,11 +2,11 @@
 
 // calculate xp needed for the next level
 // dynamically "fills up" the XP Bar based on the value
-export function xpNeededToLevelUp(currentXp, currentLevel) {
-  return xpForNextLevel(currentLevel) - currentXp;
+export function xpNeededToLevelUp(user) {
+  return xpForNextLevel(user) - user.currentXp;
 }
 
-// simple leveling logic to match backend
-export function xpForNextLevel(level) {
-  return 50 + ((level + 1) * 50);
+// the backend owns the (configurable) level curve and sends the requirement with the user
+export function xpForNextLevel(user) {
+  return user.xpForNextLevel;
 }
@@ -21,15 +21,11 @@ import {
   ArrowUp,
 } from "lucide-react";
 import { useEffect, useState } from "react";
-import { getUser } from "@/services/userService";
 import LoadingSpinner from "@/components/LoadingSpinner";
-import { getTotalChords } from "@/services/chordService";
-import { getTotalScales } from "@/services/scaleService";
-import { getAllSongs } from "@/services/songService";
+import { getDashboard } from "@/services/dashboardService";
 import { xpForNextLevel, xpNeededToLevelUp } from "@/components/utils/xpUtils";
 import XPBar from "@/components/XPBar";
 import { Link } from "react-router";
-import { getAllRewards, getEarnedRewards } from "@/services/rewardService";
 import {
   Tooltip,
   TooltipContent,
@@ -98,34 +94,20 @@ export default function Dashboard() {
   useEffect(() => {
     const fetchAllData = async () => {
       try {
-        const [
-          userData,
-          songsData,
-          chordsData,
-          scalesData,
-          allRewardsData,
-          earnedRewardsData,
-          // starts all requests in parallel rather than sequentially
-        ] = await Promise.all([
-          getUser(),
-          getAllSongs(),
-          getTotalChords(),
-          getTotalScales(),
-          getAllRewards(),
-          getEarnedRewards(),
-        ]);
+        // single request returns user, songs, counts and rewards together
+        const { data } = await getDashboard();
 
         // takes song data and creates a random sort order for dashboard UI
-        const shuffledSongs = [...songsData.data].sort(
+        const shuffledSongs = [...data.songs].sort(
           () => Math.random() - 0.5,
         );
 
-        setUser(userData.data);
+        setUser(data.user);
         setFeaturedSongs(shuffledSongs.slice(0, 3)); // grab the first 3 songs to display
-        setChordCount(chordsData.data);
-        setScaleCount(scalesData.data);
-        setAllRewards(allRewardsData.data);
-        setEarnedRewards(earnedRewardsData.data);
+        setChordCount(data.totalChords);
+        setScaleCount(data.totalScales);
+        setAllRewards(data.allRewards);
+        setEarnedRewards(data.earnedRewards);
       } catch (error) {
         setError("Failed to load Dashboard details");
       } finally {
@@ -234,18 +216,18 @@ export default function Dashboard() {
                   <div className="flex gap-2 items-center">
                     <span className="font-bold text-3xl">{user.currentXp}</span>
                     <span className="text-sm text-(--text-med)">
-                      / {xpForNextLevel(user.currentLevel)} XP
+                      / {xpForNextLevel(user)} XP
                     </span>
                   </div>
                   <XPBar
                     xp={user.currentXp}
-                    xpToNextLevel={xpForNextLevel(user.currentLevel)}
+                    xpToNextLevel={xpForNextLevel(user)}
                   />
                   <div className="flex justify-between text-(--text-med) text-xs">
                     Level {user.currentLevel}
                     <span>
                       <span className="font-bold text-accent">
-                        {xpNeededToLevelUp(user.currentXp, user.currentLevel)}{" "}
+                        {xpNeededToLevelUp(user)}{" "}
                         XP
                       </span>{" "}
                       to level {user.currentLevel + 1}
@@ -1,8 +1,8 @@
 import LoadingSpinner from "@/components/LoadingSpinner";
 import { Tabs, TabsList, TabsTrigger } from "@/components/ui/tabs";
-import { getAllChords } from "@/services/chordService";
+import { getAllChords, getChordById } from "@/services/chordService";
 import { getAllLessons } from "@/services/lessonService";
-import { getAllScales } from "@/services/scaleService";
+import { getAllScales, getScaleById } from "@/services/scaleService";
 import { Layers, GraduationCap, Lock, Guitar, ArrowRight } from "lucide-react";
 import { useEffect, useState } from "react";
 import { useNavigate } from "react-router";
@@ -10,6 +10,7 @@ import { useNavigate } from "react-router";
 export default function JamRoom() {
   const [activeTab, setActiveTab] = useState("Lessons");
   const [selectedItem, setSelectedItem] = useState(null);
+  const [itemDetails, setItemDetails] = useState(null);
   const [chords, setChords] = useState([]);
   const [scales, setScales] = useState([]);
   const [lessons, setLessons] = useState([]);
@@ -69,7 +70,7 @@ export default function JamRoom() {
               Chord Details:
             </p>
             <p className="text-sm leading-relaxed text-(--text-med)">
-              {selectedItem.details}
+              {itemDetails?.details}
             </p>
           </div>
           <div className="flex flex-col gap-4 border-t border-accent">
@@ -77,7 +78,7 @@ export default function JamRoom() {
               Chord Tips:
             </p>
             <p className="text-sm leading-relaxed text-(--text-med)">
-              {selectedItem.tips}
+              {itemDetails?.tips}
             </p>
           </div>
           <div className="flex flex-col border-t border-accent gap-4">
@@ -85,7 +86,7 @@ export default function JamRoom() {
               Finger Positions:
             </p>
             <p className="text-sm text-(--text-med)">
-              {selectedItem.fingerPositions}
+              {itemDetails?.fingerPositions}
             </p>
           </div>
         </div>
@@ -107,7 +108,7 @@ export default function JamRoom() {
               Scale Details:
             </p>
             <p className="text-sm leading-relaxed text-(--text-med)">
-              {selectedItem.details}
+              {itemDetails?.details}
             </p>
           </div>
           <div className="flex flex-col gap-4 border-t border-[#e76f51]">
@@ -115,14 +116,14 @@ export default function JamRoom() {
               Scale Tips:
             </p>
             <p className="text-sm leading-relaxed text-(--text-med)">
-              {selectedItem.tips}
+              {itemDetails?.tips}
             </p>
           </div>
           <div className="flex flex-col border-t border-[#e76f51] gap-4">
             <p className="mt-6 text-xs uppercase tracking-wide font-semibold text-(--text-high)">
               Position:
             </p>
-            <p className="text-sm text-(--text-med)">{selectedItem.position}</p>
+            <p className="text-sm text-(--text-med)">{itemDetails?.position}</p>
           </div>
         </div>
       );
@@ -171,6 +172,33 @@ export default function JamRoom() {
     // dependency array re-runs each time active tab changes
   }, [activeTab, lessons, chords, scales]);
 
+  // chord/scale lists only contain summaries, so fetch the full details/tips for the selected item
+  useEffect(() => {
+    setItemDetails(null);
+    const items = activeTab === "Chords" ? chords : activeTab === "Scales" ? scales : [];
+    // skip until selectedItem has been reset to an item from the active tab
+    if (!selectedItem || !items.includes(selectedItem)) {
+      return;
+    }
+    // ignore responses for an item that is no longer selected
+    let ignore = false;
+    const getDetails = activeTab === "Chords" ? getChordById : getScaleById;
+    getDetails(selectedItem.id)
+      .then((response) => {
+        if (!ignore) {
+          setItemDetails(response.data);
+        }
+      })
+      .catch(() => {
+        if (!ignore) {
+          setError(`Failed to load ${activeTab.toLowerCase()} details`);
+        }
+      });
+    return () => {
+      ignore = true;
+    };
+  }, [activeTab, selectedItem, chords, scales]);
+
   useEffect(() => {
     const fetchAllData = async () => {
       try {
@@ -0,0 +1,7 @@
+import apiClient from "@/config/axiosConfig";
+
+// handles fetching everything the dashboard needs in a single request
+
+export function getDashboard() {
+    return apiClient.get('/dashboard');
+}